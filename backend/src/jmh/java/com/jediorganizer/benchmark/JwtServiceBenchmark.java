@@ -0,0 +1,82 @@
+package com.jediorganizer.benchmark;
+
+import com.jediorganizer.model.User;
+import com.jediorganizer.service.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT work: issuing a token at login, and verifying it on every authenticated request.
+ * Verification cycles through many distinct tokens; with cached=false the verified token cache
+ * holds a single entry, so nearly every token is verified from scratch (HMAC and claims parsing).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private static final int TOKENS = 1024;
+
+    @Param({"true", "false"})
+    private boolean cached;
+
+    private JwtService jwtService;
+    private User user;
+    private String[] tokens;
+    private int next;
+    private UserDetails userDetails;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 86_400_000L, cached ? 10_000 : 1);
+        user = new User();
+        user.setEmail("padawan@jedi-organizer.dev");
+        tokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            user.setId(String.format("65f1c0ffee65f1c0ff%06d", i));
+            tokens[i] = jwtService.generateToken(user);
+            jwtService.verify(tokens[i]);
+        }
+        userDetails = org.springframework.security.core.userdetails.User.withUsername(user.getEmail())
+            .password("")
+            .authorities(JwtService.ROLE_USER)
+            .build();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(nextToken());
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(nextToken(), userDetails);
+    }
+
+    private String nextToken() {
+        next = (next + 1) & (TOKENS - 1);
+        return tokens[next];
+    }
+}
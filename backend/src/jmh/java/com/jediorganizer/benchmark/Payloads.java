@@ -0,0 +1,79 @@
+package com.jediorganizer.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jediorganizer.model.Task;
+import com.jediorganizer.model.TaskNote;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Realistic documents and the ObjectMapper settings the application serializes them with.
+ */
+final class Payloads {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 3, 3, 9, 15);
+
+    private Payloads() {
+    }
+
+    /**
+     * Mapper configured like Spring Boot's auto-configured one
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    }
+
+    /**
+     * Completed task with subtasks, a due date, a context and a reflection
+     */
+    static Task task(int index) {
+        Task task = new Task("Prepare quarterly planning review #" + index, "65f1c0ffee65f1c0ffee0001");
+        task.setId(String.format("65f1c0ffee65f1c0ff%06d", index));
+        task.setVersion(7L);
+        task.setDescription("Collect the outcomes of every project, compare them with the goals set last quarter "
+            + "and draft the agenda for the planning session with the team.");
+        task.setProjectId("65f1c0ffee65f1c0ffee0100");
+        task.setContext("@computer");
+        task.setEnergy(4);
+        task.setScheduledDate(LocalDate.of(2025, 3, 14));
+        task.setDueDate(LocalDateTime.of(2025, 3, 15, 17, 0));
+        task.setSubtasks(new ArrayList<>(List.of("Export project statistics", "Review last quarter's goals",
+            "Draft agenda", "Book meeting room", "Send invitations")));
+        task.setNoteCount(12);
+        task.setStatus(Task.TaskStatus.COMPLETED);
+        task.setCreatedAt(CREATED);
+        task.setUpdatedAt(CREATED.plusDays(11));
+
+        Task.TaskReflection reflection = new Task.TaskReflection();
+        reflection.setWhatWentWell("The statistics export made the comparison quick and the agenda was ready early.");
+        reflection.setWhatCouldImprove("Started collecting outcomes too late; two projects had no recent updates.");
+        reflection.setLessonsLearned("Schedule a short mid-quarter check so the review starts from fresh data.");
+        reflection.setSatisfactionRating(4);
+        reflection.setReflectedAt(CREATED.plusDays(12));
+        task.setReflection(reflection);
+        return task;
+    }
+
+    /**
+     * Notes as returned by one page of the notes endpoint
+     */
+    static List<TaskNote> notes(int count) {
+        List<TaskNote> notes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TaskNote note = new TaskNote("65f1c0ffee65f1c0ff000001", "65f1c0ffee65f1c0ffee0001",
+                "Checked in with the project owner about milestone " + i
+                    + ": progress is on track, waiting for the updated estimates before the review.",
+                CREATED.plusHours(i));
+            note.setId(String.format("65f1c0ffee65f1c0fe%06d", i));
+            notes.add(note);
+        }
+        return notes;
+    }
+}
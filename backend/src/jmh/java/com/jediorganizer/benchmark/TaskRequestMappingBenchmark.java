@@ -0,0 +1,105 @@
+package com.jediorganizer.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jediorganizer.dto.CreateTaskRequest;
+import com.jediorganizer.dto.UpdateTaskRequest;
+import com.jediorganizer.model.Task;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handling of task request bodies: JSON binding, bean validation as done for @Valid
+ * parameters, and mapping onto the Task entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskRequestMappingBenchmark {
+
+    private static final byte[] CREATE_JSON = """
+        {"title":"Review quarterly reports","description":"Review and analyze Q3 financial reports",\
+        "type":"ACTION","context":"@office","energy":3,"dueDate":"2099-10-01T12:00:00",\
+        "scheduledDate":"2099-09-20","projectId":"65f1c0ffee65f1c0ffee0100"}""".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] UPDATE_JSON = """
+        {"title":"Review quarterly reports and forecasts","status":"IN_PROGRESS","energy":4,\
+        "scheduledDate":"2099-09-21"}""".getBytes(StandardCharsets.UTF_8);
+
+    private ObjectMapper objectMapper;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private CreateTaskRequest createRequest;
+    private UpdateTaskRequest updateRequest;
+    private Task task;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Payloads.objectMapper();
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        createRequest = objectMapper.readValue(CREATE_JSON, CreateTaskRequest.class);
+        updateRequest = objectMapper.readValue(UPDATE_JSON, UpdateTaskRequest.class);
+        task = Payloads.task(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public CreateTaskRequest bindCreateRequest() throws IOException {
+        return objectMapper.readValue(CREATE_JSON, CreateTaskRequest.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateTaskRequest>> validateCreateRequest() {
+        return validator.validate(createRequest);
+    }
+
+    @Benchmark
+    public Task mapCreateRequest() {
+        return createRequest.toTask();
+    }
+
+    @Benchmark
+    public Task createRequestEndToEnd() throws IOException {
+        CreateTaskRequest request = objectMapper.readValue(CREATE_JSON, CreateTaskRequest.class);
+        if (!validator.validate(request).isEmpty()) {
+            throw new IllegalStateException("Benchmark payload must be valid");
+        }
+        return request.toTask();
+    }
+
+    @Benchmark
+    public UpdateTaskRequest bindUpdateRequest() throws IOException {
+        return objectMapper.readValue(UPDATE_JSON, UpdateTaskRequest.class);
+    }
+
+    @Benchmark
+    public Task mapUpdateRequest() {
+        updateRequest.updateTask(task);
+        return task;
+    }
+}
@@ -0,0 +1,76 @@
+package com.jediorganizer.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jediorganizer.dto.CursorPage;
+import com.jediorganizer.dto.TaskSummary;
+import com.jediorganizer.model.Task;
+import com.jediorganizer.model.TaskNote;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * JSON serialization of task responses: a full task as returned by GET /tasks/{id} and the
+ * mutations, a page of task summaries as returned by the list endpoints, and a page of notes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private ObjectMapper objectMapper;
+    private Task task;
+    private byte[] taskJson;
+    private CursorPage<TaskSummary> summaryPage;
+    private CursorPage<TaskNote> notePage;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Payloads.objectMapper();
+        task = Payloads.task(1);
+        taskJson = objectMapper.writeValueAsBytes(task);
+        List<TaskSummary> summaries = IntStream.range(0, PAGE_SIZE)
+            .mapToObj(i -> TaskSummary.of(Payloads.task(i)))
+            .toList();
+        summaryPage = new CursorPage<>(summaries, "eyJzIjoiY3JlYXRlZEF0In0", true);
+        notePage = new CursorPage<>(Payloads.notes(PAGE_SIZE), "eyJzIjoiY3JlYXRlZEF0In0", true);
+    }
+
+    @Benchmark
+    public byte[] serializeTask() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public Task deserializeTask() throws IOException {
+        return objectMapper.readValue(taskJson, Task.class);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+
+    @Benchmark
+    public byte[] serializeNotePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(notePage);
+    }
+}
@@ -0,0 +1,161 @@
+package com.jediorganizer.loadtest;
+
+import com.jediorganizer.service.JwtService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Seeds a MongoDB with a synthetic dataset, drives the task, project and dashboard endpoints
+ * of the running application with a realistic request mix and reports latency percentiles
+ * and throughput per endpoint. Run with {@code ./gradlew loadTest}; see {@link LoadTestSettings}
+ * for the parameters.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.data.mongodb.database=" + ApiLoadTest.DATABASE,
+    "app.mongo.index-report.enabled=false",
+    // Request logging would dominate the measured latencies
+    "logging.level.com.jediorganizer=WARN",
+    "logging.level.org.springframework.security=WARN"
+})
+class ApiLoadTest {
+
+    static final String DATABASE = "jedi_organizer_loadtest";
+
+    // The controllers serve this user until they take the user from the authentication
+    private static final String API_USER_ID = "demo-user-123";
+
+    private static final LoadTestSettings SETTINGS = new LoadTestSettings();
+
+    private static MongoDBContainer mongo;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        String uri = SETTINGS.mongoUri;
+        if (uri == null) {
+            mongo = new MongoDBContainer(DockerImageName.parse(SETTINGS.mongoImage).asCompatibleSubstituteFor("mongo"));
+            mongo.start();
+            uri = mongo.getReplicaSetUrl(DATABASE);
+        }
+        String mongoUri = uri;
+        registry.add("spring.data.mongodb.uri", () -> mongoUri);
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        if (mongo != null) {
+            mongo.stop();
+        }
+    }
+
+    @Test
+    void endpointsMeetLatencyObjectives() throws Exception {
+        DatasetSeeder seeder = new DatasetSeeder(mongoTemplate, SETTINGS);
+        DatasetSeeder.Dataset dataset = seeder.seed(API_USER_ID);
+        System.out.printf("Seeded %d users, %d tasks (%d for the API user)%n",
+            SETTINGS.users, dataset.tasks, dataset.taskIds.size());
+
+        LoadDriver driver = new LoadDriver(URI.create("http://localhost:" + port),
+            jwtService.generateToken(dataset.heavyUser), SETTINGS);
+        defineMix(driver, dataset, seeder);
+        Map<String, LoadDriver.LatencyRecorder> recordings = driver.run();
+
+        LatencyReport report = new LatencyReport(SETTINGS, dataset, recordings);
+        System.out.println(report.table());
+        Path reportFile = Path.of(SETTINGS.reportFile);
+        report.write(reportFile);
+        System.out.println("Report written to " + reportFile.toAbsolutePath());
+
+        if (SETTINGS.enforceObjectives) {
+            List<String> failures = report.failures();
+            assertTrue(failures.isEmpty(), "Missed the p99 objective or had errors: " + failures);
+        }
+    }
+
+    // Mostly reads, as sent by the Act and Plan screens, with a share of writes
+    private static void defineMix(LoadDriver driver, DatasetSeeder.Dataset dataset, DatasetSeeder seeder) {
+        List<String> taskIds = dataset.taskIds;
+        List<String> projectIds = dataset.projectIds;
+        driver
+            .operation("GET /tasks/today", 20, random -> get(driver, "/api/v1/tasks/today"))
+            .operation("GET /dashboard", 10, random -> get(driver, "/api/v1/dashboard"))
+            .operation("GET /tasks", 10, random -> get(driver, "/api/v1/tasks?limit=50"))
+            .operation("GET /tasks/status/{status}", 5, random -> get(driver, "/api/v1/tasks/status/TODO?limit=50"))
+            .operation("GET /tasks/overdue", 5, random -> get(driver, "/api/v1/tasks/overdue?limit=50"))
+            .operation("GET /tasks/stats", 4, random -> get(driver, "/api/v1/tasks/stats"))
+            .operation("GET /tasks/search", 5, random -> get(driver, "/api/v1/tasks/search?query="
+                + URLEncoder.encode(searchQuery(random), StandardCharsets.UTF_8)))
+            .operation("GET /tasks/{id}", 10, random -> get(driver, "/api/v1/tasks/" + pick(random, taskIds)))
+            .operation("GET /tasks/{id}/notes", 4, random ->
+                get(driver, "/api/v1/tasks/" + pick(random, taskIds) + "/notes?limit=20"))
+            .operation("POST /tasks", 4, random -> post(driver, "/api/v1/tasks", """
+                {"title":"%s","description":"%s","type":"ACTION","energy":%d,"scheduledDate":"%s"}"""
+                .formatted(seeder.sentence(4), seeder.sentence(12), 1 + random.nextInt(5),
+                    LocalDate.now().plusDays(1 + random.nextInt(14)))))
+            .operation("PUT /tasks/{id}", 3, random -> json(driver, "/api/v1/tasks/" + pick(random, taskIds))
+                .PUT(HttpRequest.BodyPublishers.ofString("{\"title\":\"" + seeder.sentence(4) + "\"}")))
+            .operation("PATCH /tasks/{id}/schedule", 3, random -> HttpRequest.newBuilder(driver.uri(
+                    "/api/v1/tasks/" + pick(random, taskIds) + "/schedule?scheduledDate="
+                        + LocalDate.now().plusDays(random.nextInt(7))))
+                .method("PATCH", HttpRequest.BodyPublishers.noBody()))
+            .operation("POST /tasks/{id}/notes", 3, random -> HttpRequest.newBuilder(driver.uri(
+                    "/api/v1/tasks/" + pick(random, taskIds) + "/notes"))
+                .header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofString(seeder.sentence(15))))
+            .operation("GET /projects", 4, random -> get(driver, "/api/v1/projects"))
+            .operation("GET /projects/active", 4, random -> get(driver, "/api/v1/projects/active"))
+            .operation("GET /projects/{id}", 3, random -> get(driver, "/api/v1/projects/" + pick(random, projectIds)))
+            .operation("GET /projects/stats", 3, random -> get(driver, "/api/v1/projects/stats"));
+    }
+
+    private static HttpRequest.Builder get(LoadDriver driver, String path) {
+        return HttpRequest.newBuilder(driver.uri(path)).GET();
+    }
+
+    private static HttpRequest.Builder post(LoadDriver driver, String path, String body) {
+        return json(driver, path).POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static HttpRequest.Builder json(LoadDriver driver, String path) {
+        return HttpRequest.newBuilder(driver.uri(path)).header("Content-Type", "application/json");
+    }
+
+    private static String searchQuery(Random random) {
+        String[] words = DatasetSeeder.WORDS;
+        return random.nextBoolean()
+            ? words[random.nextInt(words.length)]
+            : words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)].substring(0, 3);
+    }
+
+    private static String pick(Random random, List<String> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
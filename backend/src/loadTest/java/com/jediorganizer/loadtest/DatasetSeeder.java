@@ -0,0 +1,218 @@
+package com.jediorganizer.loadtest;
+
+import com.jediorganizer.model.Project;
+import com.jediorganizer.model.Task;
+import com.jediorganizer.model.TaskNote;
+import com.jediorganizer.model.User;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills the database with a reproducible synthetic dataset.
+ * Task counts per user follow a Zipf distribution, so a few heavy users own most tasks;
+ * the first user is the heaviest and is the one the API serves. Dates are relative to today,
+ * so every run has tasks scheduled for today, overdue tasks and future work.
+ */
+class DatasetSeeder {
+
+    static final String[] WORDS = {
+        "review", "quarterly", "report", "budget", "planning", "meeting", "invoice", "design", "release",
+        "migration", "customer", "feedback", "roadmap", "hiring", "interview", "training", "workshop",
+        "newsletter", "backup", "server", "database", "refactor", "garden", "groceries", "dentist",
+        "passport", "insurance", "taxes", "birthday", "vacation", "reading", "exercise", "marathon"
+    };
+
+    private static final String[] CONTEXTS = {"@computer", "@home", "@office", "@phone", "@errands", null};
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final LoadTestSettings settings;
+    private final Random random;
+
+    DatasetSeeder(MongoTemplate mongoTemplate, LoadTestSettings settings) {
+        this.mongoTemplate = mongoTemplate;
+        this.settings = settings;
+        this.random = new Random(settings.seed);
+    }
+
+    /**
+     * Drop the existing data and seed users, projects, tasks and notes
+     */
+    Dataset seed(String heavyUserId) {
+        for (Class<?> type : List.of(User.class, Project.class, Task.class, TaskNote.class)) {
+            mongoTemplate.remove(new Query(), type);
+        }
+
+        int[] taskCounts = zipfCounts(settings.users, (long) settings.users * settings.tasksPerUser, settings.skew);
+        List<Object> batch = new ArrayList<>();
+        Dataset dataset = new Dataset();
+        for (int u = 0; u < settings.users; u++) {
+            String userId = u == 0 ? heavyUserId : String.format("loadtest-user-%05d", u);
+            User user = new User("user" + u + "@loadtest.jedi-organizer.dev", "Load", "Tester " + u);
+            user.setId(userId);
+            add(batch, user);
+            if (u == 0) {
+                dataset.heavyUser = user;
+            }
+
+            List<String> projectIds = new ArrayList<>();
+            for (int p = 0; p < settings.projectsPerUser; p++) {
+                Project project = project(userId, u, p);
+                projectIds.add(project.getId());
+                add(batch, project);
+                if (u == 0) {
+                    dataset.projectIds.add(project.getId());
+                }
+            }
+
+            for (int t = 0; t < taskCounts[u]; t++) {
+                Task task = task(userId, projectIds);
+                if (random.nextDouble() < settings.notedTaskShare) {
+                    int notes = 1 + random.nextInt(settings.maxNotesPerTask);
+                    for (int n = 0; n < notes; n++) {
+                        add(batch, new TaskNote(task.getId(), userId, sentence(12), task.getCreatedAt().plusHours(n)));
+                    }
+                    task.setNoteCount(notes);
+                }
+                add(batch, task);
+                if (u == 0) {
+                    dataset.taskIds.add(task.getId());
+                }
+            }
+            dataset.tasks += taskCounts[u];
+        }
+        flush(batch);
+        return dataset;
+    }
+
+    private Project project(String userId, int user, int index) {
+        Project project = new Project(capitalized(sentence(3)), userId);
+        project.setId(objectId());
+        project.setDescription(sentence(15));
+        project.setPriority(1 + random.nextInt(5));
+        project.setStatus(pick(Project.ProjectStatus.values()));
+        if (random.nextDouble() < 0.5) {
+            project.setDueDate(LocalDateTime.now().plusDays(random.nextInt(120) - 30));
+        }
+        return project;
+    }
+
+    private Task task(String userId, List<String> projectIds) {
+        Task task = new Task(capitalized(sentence(2 + random.nextInt(5))), userId);
+        task.setId(objectId());
+        if (random.nextDouble() < 0.6) {
+            task.setDescription(sentence(10 + random.nextInt(30)));
+        }
+        if (!projectIds.isEmpty() && random.nextDouble() < 0.7) {
+            task.setProjectId(projectIds.get(random.nextInt(projectIds.size())));
+        }
+        task.setType(random.nextDouble() < 0.8 ? Task.TaskType.ACTION : pick(Task.TaskType.values()));
+        task.setContext(pick(CONTEXTS));
+        task.setEnergy(1 + random.nextInt(5));
+
+        double roll = random.nextDouble();
+        LocalDate today = LocalDate.now();
+        if (roll < 0.05) {
+            task.setScheduledDate(today);
+        } else if (roll < 0.35) {
+            task.setScheduledDate(today.plusDays(random.nextInt(60) - 30));
+        }
+        if (random.nextDouble() < 0.3) {
+            task.setDueDate(LocalDateTime.now().plusDays(random.nextInt(60) - 20));
+        }
+        for (int s = random.nextInt(6); s > 0; s--) {
+            task.getSubtasks().add(capitalized(sentence(3)));
+        }
+
+        LocalDateTime created = LocalDateTime.now().minusMinutes(random.nextInt(60 * 24 * 365));
+        task.setStatus(pick(Task.TaskStatus.values()));
+        if (task.getStatus() == Task.TaskStatus.COMPLETED) {
+            task.setCompletedAt(created.plusDays(random.nextInt(30)));
+            if (random.nextDouble() < 0.3) {
+                Task.TaskReflection reflection = new Task.TaskReflection();
+                reflection.setWhatWentWell(sentence(12));
+                reflection.setWhatCouldImprove(sentence(12));
+                reflection.setLessonsLearned(sentence(12));
+                reflection.setSatisfactionRating(1 + random.nextInt(5));
+                task.setReflection(reflection);
+            }
+        }
+        // Setters touch updatedAt, so the timestamps go last
+        task.setCreatedAt(created);
+        task.setUpdatedAt(created.plusDays(random.nextInt(30)));
+        return task;
+    }
+
+    private void add(List<Object> batch, Object document) {
+        batch.add(document);
+        if (batch.size() == BATCH_SIZE) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<Object> batch) {
+        if (!batch.isEmpty()) {
+            // Inserted as entities so the search keywords are computed as in production
+            mongoTemplate.insertAll(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Split a total over n ranks proportionally to 1 / rank^skew, every rank getting at least one
+     */
+    static int[] zipfCounts(int n, long total, double skew) {
+        double[] weights = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            weights[i] = 1 / Math.pow(i + 1, skew);
+            sum += weights[i];
+        }
+        int[] counts = new int[n];
+        for (int i = 0; i < n; i++) {
+            counts[i] = (int) Math.max(1, Math.round(total * weights[i] / sum));
+        }
+        return counts;
+    }
+
+    String sentence(int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+
+    private static String capitalized(String text) {
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private String objectId() {
+        // Deterministic ids, so the same seed gives the same dataset
+        return String.format("%08x%016x", random.nextInt(), random.nextLong());
+    }
+
+    /**
+     * What the driver needs to know about the seeded data of the heavy user
+     */
+    static class Dataset {
+        User heavyUser;
+        final List<String> projectIds = new ArrayList<>();
+        final List<String> taskIds = new ArrayList<>();
+        long tasks;
+    }
+}
@@ -0,0 +1,112 @@
+package com.jediorganizer.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latency percentiles and throughput per operation, checked against the p99 objective.
+ * Printed as a table and written as JSON so reports of different releases can be compared.
+ */
+class LatencyReport {
+
+    private final Instant finishedAt = Instant.now();
+    private final Map<String, Object> run = new LinkedHashMap<>();
+    private final List<Endpoint> endpoints = new ArrayList<>();
+
+    LatencyReport(LoadTestSettings settings, DatasetSeeder.Dataset dataset,
+                  Map<String, LoadDriver.LatencyRecorder> recordings) {
+        run.put("users", settings.users);
+        run.put("tasks", dataset.tasks);
+        run.put("heavyUserTasks", dataset.taskIds.size());
+        run.put("skew", settings.skew);
+        run.put("clients", settings.clients);
+        run.put("durationSeconds", settings.duration.toSeconds());
+        run.put("p99ObjectiveMillis", settings.p99Objective.toMillis());
+        double seconds = settings.duration.toNanos() / 1e9;
+        recordings.forEach((name, recorder) ->
+            endpoints.add(new Endpoint(name, recorder, seconds, settings.p99Objective)));
+    }
+
+    /**
+     * Operations that missed the p99 objective or had errors
+     */
+    List<String> failures() {
+        return endpoints.stream()
+            .filter(endpoint -> !endpoint.objectiveMet)
+            .map(endpoint -> endpoint.name)
+            .toList();
+    }
+
+    String table() {
+        StringBuilder table = new StringBuilder(String.format("%-36s %9s %7s %9s %9s %9s %9s %9s  %s%n",
+            "operation", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "SLO"));
+        for (Endpoint e : endpoints) {
+            table.append(String.format("%-36s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                e.name, e.requests, e.errors, e.throughput, e.p50, e.p95, e.p99, e.max, e.objectiveMet ? "ok" : "MISSED"));
+        }
+        return table.toString();
+    }
+
+    void write(Path file) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", finishedAt.toString());
+        report.put("run", run);
+        report.put("endpoints", endpoints);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .writeValue(file.toFile(), report);
+    }
+
+    /**
+     * Results of one operation; latencies in milliseconds
+     */
+    static class Endpoint {
+        private final String name;
+        private final int requests;
+        private final int errors;
+        private final double throughput;
+        private final double p50;
+        private final double p95;
+        private final double p99;
+        private final double max;
+        private final boolean objectiveMet;
+
+        Endpoint(String name, LoadDriver.LatencyRecorder recorder, double seconds, Duration p99Objective) {
+            long[] samples = recorder.sortedSamples();
+            this.name = name;
+            this.requests = samples.length;
+            this.errors = recorder.errors();
+            this.throughput = samples.length / seconds;
+            this.p50 = percentile(samples, 0.50);
+            this.p95 = percentile(samples, 0.95);
+            this.p99 = percentile(samples, 0.99);
+            this.max = samples.length > 0 ? samples[samples.length - 1] / 1e6 : 0;
+            this.objectiveMet = errors == 0 && p99 <= p99Objective.toNanos() / 1e6;
+        }
+
+        // Nearest-rank percentile
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(rank, 1) - 1] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.jediorganizer.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Closed-loop load generator: every client sends a request picked from the weighted mix,
+ * waits for the response and sends the next one. Latencies are recorded per operation,
+ * excluding the warmup period.
+ */
+class LoadDriver {
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final String authorization;
+    private final LoadTestSettings settings;
+    private final List<Operation> operations = new ArrayList<>();
+    private int totalWeight;
+
+    LoadDriver(URI baseUri, String token, LoadTestSettings settings) {
+        this.baseUri = baseUri;
+        this.authorization = "Bearer " + token;
+        this.settings = settings;
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    }
+
+    /**
+     * Add an operation to the mix; it is picked with probability weight / total weight
+     */
+    LoadDriver operation(String name, int weight, Function<Random, HttpRequest.Builder> request) {
+        operations.add(new Operation(name, weight, request));
+        totalWeight += weight;
+        return this;
+    }
+
+    URI uri(String path) {
+        return baseUri.resolve(path);
+    }
+
+    /**
+     * Run the warmup and the measured period, returning the recordings of the measured period
+     */
+    Map<String, LatencyRecorder> run() throws InterruptedException {
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        operations.forEach(operation -> recorders.put(operation.name, new LatencyRecorder()));
+
+        long measureFrom = System.nanoTime() + settings.warmup.toNanos();
+        long until = measureFrom + settings.duration.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < settings.clients; c++) {
+                Random random = new Random(settings.seed + c);
+                clients.submit(() -> {
+                    while (System.nanoTime() < until) {
+                        Operation operation = pick(random);
+                        HttpRequest request = operation.request.apply(random)
+                            .header("Authorization", authorization)
+                            .timeout(Duration.ofSeconds(30))
+                            .build();
+                        long start = System.nanoTime();
+                        boolean ok = send(request);
+                        long end = System.nanoTime();
+                        if (start >= measureFrom && end <= until) {
+                            recorders.get(operation.name).record(end - start, ok);
+                        }
+                    }
+                    return null;
+                });
+            }
+            clients.shutdown();
+            if (!clients.awaitTermination(settings.warmup.plus(settings.duration).toSeconds() + 60, TimeUnit.SECONDS)) {
+                clients.shutdownNow();
+            }
+        }
+        return recorders;
+    }
+
+    private boolean send(HttpRequest request) {
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            return response.statusCode() < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Operation pick(Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("No operations configured");
+    }
+
+    private static class Operation {
+        private final String name;
+        private final int weight;
+        private final Function<Random, HttpRequest.Builder> request;
+
+        Operation(String name, int weight, Function<Random, HttpRequest.Builder> request) {
+            this.name = name;
+            this.weight = weight;
+            this.request = request;
+        }
+    }
+
+    /**
+     * Latencies of one operation; percentiles are computed exactly from all samples
+     */
+    static class LatencyRecorder {
+        private long[] samples = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void record(long nanos, boolean ok) {
+            if (!ok) {
+                errors++;
+            }
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+        }
+
+        synchronized long[] sortedSamples() {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        synchronized int errors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.jediorganizer.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+
+/**
+ * Load test parameters, read from {@code loadtest.*} system properties
+ * (passed through from Gradle, e.g. {@code ./gradlew loadTest -Ploadtest.users=500}).
+ */
+final class LoadTestSettings {
+
+    /** Synthetic users; the API's demo user is the first and heaviest of them */
+    final int users = intProperty("loadtest.users", 200);
+    final int projectsPerUser = intProperty("loadtest.projects-per-user", 8);
+    /** Average tasks per user */
+    final int tasksPerUser = intProperty("loadtest.tasks-per-user", 100);
+    /** Zipf exponent of the tasks per user: 0 spreads them evenly, higher values favour the first users */
+    final double skew = doubleProperty("loadtest.skew", 1.0);
+    /** Share of tasks that have notes, and the most notes such a task has */
+    final double notedTaskShare = doubleProperty("loadtest.noted-task-share", 0.2);
+    final int maxNotesPerTask = intProperty("loadtest.max-notes-per-task", 40);
+    final long seed = Long.getLong("loadtest.seed", 42L);
+
+    /** Concurrent virtual clients, each sending its next request as soon as the previous one completed */
+    final int clients = intProperty("loadtest.clients", 32);
+    final Duration warmup = durationProperty("loadtest.warmup", Duration.ofSeconds(15));
+    final Duration duration = durationProperty("loadtest.duration", Duration.ofSeconds(60));
+
+    /** p99 latency objective of every endpoint, and whether a missed objective fails the run */
+    final Duration p99Objective = durationProperty("loadtest.slo.p99", Duration.ofMillis(250));
+    final boolean enforceObjectives = Boolean.getBoolean("loadtest.slo.enforce");
+
+    /** MongoDB to seed and run against; a Testcontainers MongoDB is started when not set */
+    final String mongoUri = System.getProperty("loadtest.mongodb.uri");
+    final String mongoImage = System.getProperty("loadtest.mongodb.image", "mongo:7.0");
+
+    final String reportFile = System.getProperty("loadtest.report", "build/reports/loadtest/report.json");
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.getInteger(name, defaultValue);
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    // Same formats as duration properties of the application, e.g. "30s", "250ms" or "PT1M"
+    private static Duration durationProperty(String name, Duration defaultValue) {
+        String value = System.getProperty(name);
+        return value != null ? DurationStyle.detectAndParse(value) : defaultValue;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jediorganizer.config;
+
+import com.jediorganizer.model.Project;
+import com.jediorganizer.model.Task;
+import com.mongodb.client.result.UpdateResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Initializes the optimistic locking version of documents written before versioning was introduced.
+ * Spring Data treats a versioned entity with a null version as new, so saving such a document
+ * would attempt an insert instead of an update.
+ */
+@Component
+public class DocumentVersionMigration implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentVersionMigration.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final Migrations migrations;
+
+    public DocumentVersionMigration(MongoTemplate mongoTemplate, Migrations migrations) {
+        this.mongoTemplate = mongoTemplate;
+        this.migrations = migrations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrations.run("document-version", this::initializeVersions);
+    }
+
+    private long initializeVersions() {
+        long initialized = 0;
+        for (Class<?> type : List.of(Task.class, Project.class)) {
+            UpdateResult result = mongoTemplate.updateMulti(
+                Query.query(Criteria.where("version").exists(false)),
+                new Update().set("version", 0L),
+                type
+            );
+            if (result.getModifiedCount() > 0) {
+                logger.info("Initialized version of {} {} documents", result.getModifiedCount(), type.getSimpleName());
+            }
+            initialized += result.getModifiedCount();
+        }
+        return initialized;
+    }
+}
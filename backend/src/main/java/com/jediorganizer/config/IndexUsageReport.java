@@ -0,0 +1,266 @@
+package com.jediorganizer.config;
+
+import com.jediorganizer.repository.QueryPlans;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Startup report of the query plans of every repository query method.
+ * Each query is rebuilt with sample arguments and explained (not executed);
+ * queries whose winning plan is a collection scan are logged as warnings.
+ */
+@Component
+@ConditionalOnProperty(name = "app.mongo.index-report.enabled", havingValue = "true", matchIfMissing = true)
+public class IndexUsageReport implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndexUsageReport.class);
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\?(\\d+)");
+    private static final String PLACEHOLDER_TOKEN = "__param_%s__";
+
+    // Fixed sample values, so methods with the same filter shape produce equal filters
+    private static final LocalDateTime SAMPLE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final String SAMPLE_ID = new ObjectId().toHexString();
+
+    private final ApplicationContext applicationContext;
+    private final MongoTemplate mongoTemplate;
+    private final QueryMapper queryMapper;
+
+    public IndexUsageReport(ApplicationContext applicationContext, MongoTemplate mongoTemplate) {
+        this.applicationContext = applicationContext;
+        this.mongoTemplate = mongoTemplate;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Repositories repositories = new Repositories(applicationContext);
+        int checked = 0;
+        int collectionScans = 0;
+        int skipped = 0;
+
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation repository = repositories.getRequiredRepositoryInformation(domainType);
+            MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(domainType);
+
+            // Methods sharing a filter shape share a plan; explain each shape once
+            Map<Document, String> filters = new LinkedHashMap<>();
+            for (Method method : repository.getQueryMethods()) {
+                Document filter = sampleFilter(method, domainType, entity);
+                if (filter == null) {
+                    skipped++;
+                    logger.debug("Index report: cannot rebuild the query of {}", describe(method));
+                } else {
+                    filters.putIfAbsent(filter, describe(method));
+                }
+            }
+
+            for (Map.Entry<Document, String> entry : filters.entrySet()) {
+                Document command = new Document("find", entity.getCollection()).append("filter", entry.getKey());
+                try {
+                    Document explain = QueryPlans.explain(mongoTemplate.getDb(), command);
+                    checked++;
+                    if (QueryPlans.isCollectionScan(explain)) {
+                        collectionScans++;
+                        logger.warn("Index report: {} runs as a collection scan on '{}' (filter {})",
+                            entry.getValue(), entity.getCollection(), entry.getKey().toJson());
+                    }
+                } catch (RuntimeException e) {
+                    skipped++;
+                    logger.debug("Index report: cannot explain {} (filter {}): {}",
+                        entry.getValue(), entry.getKey().toJson(), e.getMessage());
+                }
+            }
+        }
+
+        logger.info("Index report: {} query shapes explained, {} collection scans, {} not checked",
+            checked, collectionScans, skipped);
+    }
+
+    /**
+     * Rebuild the mapped filter of a query method with sample arguments; null when not supported
+     */
+    private Document sampleFilter(Method method, Class<?> domainType, MongoPersistentEntity<?> entity) {
+        List<Object> arguments = sampleArguments(method);
+        if (arguments == null) {
+            return null;
+        }
+
+        Document filter;
+        Aggregation aggregation = method.getAnnotation(Aggregation.class);
+        Query query = method.getAnnotation(Query.class);
+        if (aggregation != null) {
+            filter = leadingMatch(aggregation.pipeline(), arguments);
+        } else if (query != null && !query.value().isEmpty()) {
+            filter = bind(query.value(), arguments);
+        } else {
+            filter = derivedFilter(method, domainType, arguments);
+        }
+        return filter != null ? queryMapper.getMappedObject(filter, entity) : null;
+    }
+
+    private static Document leadingMatch(String[] pipeline, List<Object> arguments) {
+        if (pipeline.length == 0) {
+            return null;
+        }
+        Document firstStage = bind(pipeline[0], arguments);
+        return firstStage.get("$match", Document.class);
+    }
+
+    // Replace ?N placeholders by tokens so the JSON parses, then swap in the sample values
+    private static Document bind(String json, List<Object> arguments) {
+        Matcher matcher = PLACEHOLDER.matcher(json);
+        Document document = Document.parse(matcher.replaceAll("\"" + PLACEHOLDER_TOKEN.formatted("$1") + "\""));
+        return (Document) substitute(document, arguments);
+    }
+
+    private static Object substitute(Object value, List<Object> arguments) {
+        if (value instanceof Document document) {
+            Document bound = new Document();
+            document.forEach((key, nested) -> bound.put(key, substitute(nested, arguments)));
+            return bound;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> bound = new ArrayList<>();
+            list.forEach(nested -> bound.add(substitute(nested, arguments)));
+            return bound;
+        }
+        if (value instanceof String string && string.startsWith("__param_") && string.endsWith("__")) {
+            return arguments.get(Integer.parseInt(string.substring(8, string.length() - 2)));
+        }
+        return value;
+    }
+
+    private static Document derivedFilter(Method method, Class<?> domainType, List<Object> arguments) {
+        PartTree tree;
+        try {
+            tree = new PartTree(method.getName(), domainType);
+        } catch (RuntimeException e) {
+            return null;
+        }
+
+        Iterator<Object> values = arguments.iterator();
+        List<Criteria> alternatives = new ArrayList<>();
+        for (PartTree.OrPart orPart : tree) {
+            List<Criteria> conditions = new ArrayList<>();
+            for (Part part : orPart) {
+                Criteria condition = criteriaFor(part, values);
+                if (condition == null) {
+                    return null;
+                }
+                conditions.add(condition);
+            }
+            alternatives.add(conditions.size() == 1 ? conditions.get(0)
+                : new Criteria().andOperator(conditions.toArray(Criteria[]::new)));
+        }
+        if (alternatives.isEmpty()) {
+            return new Document();
+        }
+        Criteria criteria = alternatives.size() == 1 ? alternatives.get(0)
+            : new Criteria().orOperator(alternatives.toArray(Criteria[]::new));
+        return criteria.getCriteriaObject();
+    }
+
+    private static Criteria criteriaFor(Part part, Iterator<Object> values) {
+        Criteria where = Criteria.where(part.getProperty().toDotPath());
+        return switch (part.getType()) {
+            case SIMPLE_PROPERTY -> where.is(values.next());
+            case NEGATING_SIMPLE_PROPERTY -> where.ne(values.next());
+            case LESS_THAN, BEFORE -> where.lt(values.next());
+            case LESS_THAN_EQUAL -> where.lte(values.next());
+            case GREATER_THAN, AFTER -> where.gt(values.next());
+            case GREATER_THAN_EQUAL -> where.gte(values.next());
+            case BETWEEN -> where.gt(values.next()).lt(values.next());
+            case IN -> where.in((Collection<?>) values.next());
+            case NOT_IN -> where.nin((Collection<?>) values.next());
+            case IS_NULL -> where.is(null);
+            case IS_NOT_NULL -> where.ne(null);
+            case TRUE -> where.is(true);
+            case FALSE -> where.is(false);
+            case CONTAINING, STARTING_WITH, ENDING_WITH, LIKE ->
+                where.regex(Pattern.quote(String.valueOf(values.next())),
+                    part.shouldIgnoreCase() != Part.IgnoreCaseType.NEVER ? "i" : "");
+            default -> null;
+        };
+    }
+
+    // Sample values for the bindable parameters; paging and sorting parameters don't affect the filter
+    private static List<Object> sampleArguments(Method method) {
+        List<Object> arguments = new ArrayList<>();
+        for (Class<?> type : method.getParameterTypes()) {
+            if (Pageable.class.isAssignableFrom(type) || Sort.class.isAssignableFrom(type)
+                    || ScrollPosition.class.isAssignableFrom(type) || Limit.class.isAssignableFrom(type)) {
+                continue;
+            }
+            Object sample = sampleValue(type);
+            if (sample == null) {
+                return null;
+            }
+            arguments.add(sample);
+        }
+        return arguments;
+    }
+
+    private static Object sampleValue(Class<?> type) {
+        if (type == String.class) {
+            return "sample";
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(SAMPLE_ID);
+        }
+        if (type == LocalDate.class) {
+            return SAMPLE_TIME.toLocalDate();
+        }
+        if (type == LocalDateTime.class) {
+            return SAMPLE_TIME;
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (type == int.class || type == Integer.class || type == long.class || type == Long.class) {
+            return 1;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return true;
+        }
+        return null;
+    }
+
+    private static String describe(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+}
@@ -1,29 +1,43 @@
 package com.jediorganizer.config;
 
 import com.jediorganizer.service.JwtService;
+import com.jediorganizer.service.TokenRevocationService;
 import com.jediorganizer.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private final boolean statelessPrincipal;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserService userService) {
+    public JwtAuthenticationFilter(
+        JwtService jwtService,
+        UserService userService,
+        TokenRevocationService tokenRevocationService,
+        @Value("${app.jwt.stateless-principal:false}") boolean statelessPrincipal
+    ) {
         this.jwtService = jwtService;
         this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.statelessPrincipal = statelessPrincipal;
     }
 
     @Override
@@ -42,12 +56,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        final Claims claims = jwtService.verify(jwt);
+        userEmail = claims.getSubject();
 
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userService.loadUserByUsername(userEmail);
+            UserDetails userDetails = resolveUserDetails(claims);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (userDetails != null && jwtService.isTokenValid(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                     userDetails,
                     null,
@@ -60,4 +75,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Build the principal from the token claims when running stateless,
+     * falling back to a user lookup for tokens issued without principal claims.
+     * Returns null for revoked tokens.
+     */
+    private UserDetails resolveUserDetails(Claims claims) {
+        if (!statelessPrincipal || !jwtService.hasPrincipalClaims(claims)) {
+            return userService.loadUserByUsername(claims.getSubject());
+        }
+
+        String userId = claims.get(JwtService.CLAIM_USER_ID, String.class);
+        Long version = claims.get(JwtService.CLAIM_VERSION, Long.class);
+        if (tokenRevocationService.isRevoked(userId, version)) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<String> roles = claims.get(JwtService.CLAIM_ROLES, List.class);
+        return User.withUsername(claims.getSubject())
+            .password("")
+            .authorities(roles.toArray(String[]::new))
+            .build();
+    }
 }
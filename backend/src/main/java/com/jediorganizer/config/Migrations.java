@@ -0,0 +1,46 @@
+package com.jediorganizer.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.function.LongSupplier;
+
+/**
+ * Records completed startup migrations in the migrations collection, so their unindexed
+ * scans for documents left to migrate do not run on every start.
+ * A migration counts as completed once a run finds nothing left to migrate: documents written
+ * by instances of the previous release during a rolling deploy are picked up by the next start.
+ */
+@Component
+public class Migrations {
+
+    private static final Logger logger = LoggerFactory.getLogger(Migrations.class);
+
+    private static final String COLLECTION = "migrations";
+
+    private final MongoTemplate mongoTemplate;
+
+    public Migrations(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Run a migration returning the number of documents it migrated, unless it completed before
+     */
+    public void run(String name, LongSupplier migration) {
+        Query marker = Query.query(Criteria.where("_id").is(name));
+        if (mongoTemplate.exists(marker, COLLECTION)) {
+            logger.debug("Migration {} already completed", name);
+            return;
+        }
+        if (migration.getAsLong() == 0) {
+            mongoTemplate.upsert(marker, new Update().setOnInsert("completedAt", new Date()), COLLECTION);
+        }
+    }
+}
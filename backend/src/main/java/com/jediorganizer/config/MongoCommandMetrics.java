@@ -0,0 +1,92 @@
+package com.jediorganizer.config;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the documents and reply bytes of every MongoDB command, tagged by command and collection,
+ * as "mongodb.driver.commands.documents" and "mongodb.driver.commands.reply.size".
+ * Command latencies are recorded by Spring Boot as "mongodb.driver.commands".
+ */
+@Component
+public class MongoCommandMetrics implements CommandListener, MongoClientSettingsBuilderCustomizer {
+
+    private static final String NO_COLLECTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    // Collection of each running command; succeeded events only carry the command name
+    private final Map<Integer, String> collections = new ConcurrentHashMap<>();
+
+    public MongoCommandMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void customize(MongoClientSettings.Builder builder) {
+        builder.addCommandListener(this);
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        collections.put(event.getRequestId(), collection(event.getCommandName(), event.getCommand()));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        String collection = collections.remove(event.getRequestId());
+        // Replies of sensitive commands such as hello are redacted to an empty document
+        if (!(event.getResponse() instanceof RawBsonDocument reply)) {
+            return;
+        }
+        String command = event.getCommandName();
+        String[] tags = {"command", command, "collection", collection != null ? collection : NO_COLLECTION};
+        DistributionSummary.builder("mongodb.driver.commands.reply.size")
+            .description("Size of MongoDB command replies")
+            .baseUnit("bytes")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(reply.getByteBuffer().remaining());
+        long documents = documents(reply);
+        if (documents >= 0) {
+            DistributionSummary.builder("mongodb.driver.commands.documents")
+                .description("Documents returned by a MongoDB read or affected by a write")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(documents);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        collections.remove(event.getRequestId());
+    }
+
+    // Most commands name their collection as the value of the command key, getMore in a separate field
+    static String collection(String commandName, BsonDocument command) {
+        BsonValue value = "getMore".equals(commandName) ? command.get("collection") : command.get(commandName);
+        return value != null && value.isString() ? value.asString().getValue() : NO_COLLECTION;
+    }
+
+    // Batch size of cursor replies (find, aggregate, getMore), n of writes and counts; -1 for other replies
+    static long documents(BsonDocument reply) {
+        if (reply.get("cursor") instanceof BsonDocument cursor) {
+            BsonValue batch = cursor.containsKey("firstBatch") ? cursor.get("firstBatch") : cursor.get("nextBatch");
+            return batch != null && batch.isArray() ? batch.asArray().size() : -1;
+        }
+        BsonValue n = reply.get("n");
+        return n != null && n.isNumber() ? n.asNumber().longValue() : -1;
+    }
+}
@@ -45,7 +45,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
         User user = userService.createOrUpdateOAuthUser(email, name, googleId, picture);
 
-        String jwt = jwtService.generateToken(user.getEmail());
+        String jwt = jwtService.generateToken(user);
 
         // Redirect to frontend with JWT token
         String redirectUrl = String.format("%s/auth/callback?token=%s", frontendUrl, jwt);
@@ -0,0 +1,81 @@
+package com.jediorganizer.config;
+
+import com.jediorganizer.service.ParallelReads;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.DistinctIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.CountOptions;
+import org.bson.Document;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoTemplate that sends the queries of a parallel read with the time left until the
+ * deadline of its scope as maxTimeMS, so MongoDB stops a query the request no longer waits for.
+ * Finds, aggregations, distincts and counts are bounded; a maxTimeMS set on the query itself wins.
+ * Outside parallel reads collections are used as they are.
+ * Registered as "mongoTemplate", the bean Spring Data repositories look up by name.
+ */
+@Component("mongoTemplate")
+public class ReadDeadlineMongoTemplate extends MongoTemplate {
+
+    public ReadDeadlineMongoTemplate(MongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter) {
+        super(mongoDatabaseFactory, mongoConverter);
+    }
+
+    @Override
+    protected MongoCollection<Document> prepareCollection(MongoCollection<Document> collection) {
+        MongoCollection<Document> prepared = super.prepareCollection(collection);
+        Optional<Duration> remaining = ParallelReads.remainingTime();
+        if (remaining.isEmpty()) {
+            return prepared;
+        }
+        long maxTimeMillis = remaining.get().toMillis();
+        if (maxTimeMillis <= 0) {
+            throw new QueryTimeoutException("Parallel reads passed their deadline before querying '"
+                + collection.getNamespace().getCollectionName() + "'");
+        }
+        return withMaxTime(prepared, maxTimeMillis);
+    }
+
+    // Collections derived from the proxy (withReadPreference etc.) keep the time limit
+    @SuppressWarnings("unchecked")
+    private static <T> MongoCollection<T> withMaxTime(MongoCollection<T> collection, long maxTimeMillis) {
+        return (MongoCollection<T>) Proxy.newProxyInstance(MongoCollection.class.getClassLoader(),
+            new Class<?>[] {MongoCollection.class}, (proxy, method, args) -> {
+                if (args != null && args[args.length - 1] instanceof CountOptions options
+                    && options.getMaxTime(TimeUnit.MILLISECONDS) == 0) {
+                    options.maxTime(maxTimeMillis, TimeUnit.MILLISECONDS);
+                }
+                Object result;
+                try {
+                    result = method.invoke(collection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (result instanceof MongoCollection<?> derived) {
+                    return withMaxTime(derived, maxTimeMillis);
+                }
+                if (result instanceof FindIterable<?> find) {
+                    return find.maxTime(maxTimeMillis, TimeUnit.MILLISECONDS);
+                }
+                if (result instanceof AggregateIterable<?> aggregate) {
+                    return aggregate.maxTime(maxTimeMillis, TimeUnit.MILLISECONDS);
+                }
+                if (result instanceof DistinctIterable<?> distinct) {
+                    return distinct.maxTime(maxTimeMillis, TimeUnit.MILLISECONDS);
+                }
+                return result;
+            });
+    }
+}
@@ -0,0 +1,74 @@
+package com.jediorganizer.config;
+
+import com.jediorganizer.model.Project;
+import com.jediorganizer.model.Task;
+import com.jediorganizer.repository.SearchKeywords;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Computes the search keywords of documents written before keyword search was introduced.
+ */
+@Component
+public class SearchKeywordBackfill implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchKeywordBackfill.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final Migrations migrations;
+
+    public SearchKeywordBackfill(MongoTemplate mongoTemplate, Migrations migrations) {
+        this.mongoTemplate = mongoTemplate;
+        this.migrations = migrations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrations.run("search-keywords", () -> backfill(Task.class, Task::getId, SearchKeywords::forTask)
+            + backfill(Project.class, Project::getId, SearchKeywords::forProject));
+    }
+
+    private <T> long backfill(Class<T> type, Function<T, String> id, Function<T, List<String>> keywords) {
+        Query missing = Query.query(Criteria.where(SearchKeywords.FIELD).exists(false)).cursorBatchSize(BATCH_SIZE);
+        long updated = 0;
+        BulkOperations bulk = null;
+        int pending = 0;
+
+        try (Stream<T> documents = mongoTemplate.stream(missing, type)) {
+            for (T document : (Iterable<T>) documents::iterator) {
+                if (bulk == null) {
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+                }
+                // Derived data only: the version is left alone so clients' ETags stay valid
+                bulk.updateOne(Query.query(Criteria.where("id").is(id.apply(document))),
+                    new Update().set(SearchKeywords.FIELD, keywords.apply(document)));
+                if (++pending == BATCH_SIZE) {
+                    updated += bulk.execute().getModifiedCount();
+                    bulk = null;
+                    pending = 0;
+                }
+            }
+        }
+        if (bulk != null) {
+            updated += bulk.execute().getModifiedCount();
+        }
+        if (updated > 0) {
+            logger.info("Computed search keywords of {} {} documents", updated, type.getSimpleName());
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,41 @@
+package com.jediorganizer.config;
+
+import com.jediorganizer.model.Project;
+import com.jediorganizer.model.Task;
+import com.jediorganizer.model.TaskNote;
+import com.jediorganizer.repository.SearchKeywords;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
+
+/**
+ * Keeps the indexed search keywords of tasks, task notes and projects in step with every full-document write.
+ * The keywords only exist in the stored document, not on the entities.
+ */
+@Configuration
+public class SearchKeywordCallbacks {
+
+    @Bean
+    public BeforeSaveCallback<Task> taskSearchKeywords() {
+        return (task, document, collection) -> {
+            document.put(SearchKeywords.FIELD, SearchKeywords.forTask(task));
+            return task;
+        };
+    }
+
+    @Bean
+    public BeforeSaveCallback<TaskNote> taskNoteSearchKeywords() {
+        return (note, document, collection) -> {
+            document.put(SearchKeywords.FIELD, SearchKeywords.forNote(note));
+            return note;
+        };
+    }
+
+    @Bean
+    public BeforeSaveCallback<Project> projectSearchKeywords() {
+        return (project, document, collection) -> {
+            document.put(SearchKeywords.FIELD, SearchKeywords.forProject(project));
+            return project;
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.jediorganizer.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -18,13 +19,16 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
+    private final int managementPort;
 
     public SecurityConfig(
         JwtAuthenticationFilter jwtAuthenticationFilter,
-        OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler
+        OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler,
+        @Value("${management.server.port:-1}") int managementPort
     ) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.oAuth2AuthenticationSuccessHandler = oAuth2AuthenticationSuccessHandler;
+        this.managementPort = managementPort;
     }
 
     /**
@@ -35,7 +39,10 @@ public class SecurityConfig {
         http
             .authorizeHttpRequests(authz -> authz
                 // Allow public access to health check endpoints
-                .requestMatchers("/api/v1/health/**", "/actuator/**").permitAll()
+                .requestMatchers("/api/v1/health/**").permitAll()
+                // Actuator is served only on the management port, which is not published outside the
+                // deployment network, so scrapers such as Prometheus need no user token
+                .requestMatchers(request -> request.getLocalPort() == managementPort).permitAll()
                 // Allow public access to API documentation
                 .requestMatchers("/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                 // Allow OAuth2 endpoints
@@ -0,0 +1,322 @@
+package com.jediorganizer.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jediorganizer.repository.QueryPlans;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects MongoDB commands that take longer than a threshold. Each slow command is logged with
+ * its filter shape (values redacted), the application method that issued it and the documents it
+ * returned. Queries are explained in the background to add the documents and keys examined and
+ * the winning plan. The latest slow commands are listed by the "slowoperations" actuator endpoint.
+ */
+@Component
+@ConditionalOnProperty(name = "app.mongo.slow-operations.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowOperationDetector implements CommandListener, MongoClientSettingsBuilderCustomizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowOperationDetector.class);
+
+    private static final String APPLICATION_PACKAGE = "com.jediorganizer.";
+
+    // Commands whose query can be explained; explaining a write does not apply it
+    private static final Set<String> EXPLAINABLE = Set.of(
+        "find", "aggregate", "count", "distinct", "update", "delete", "findAndModify");
+    // Parts of a command that make up its shape
+    private static final Set<String> SHAPE_KEYS = Set.of(
+        "filter", "query", "sort", "projection", "fields", "hint", "pipeline", "updates", "deletes", "update", "key");
+    // Parts holding user data; sort orders, projections and hints are kept as they are
+    private static final Set<String> REDACTED_KEYS = Set.of("filter", "query", "q", "u", "update", "pipeline");
+    private static final Set<String> SESSION_KEYS = Set.of(
+        "lsid", "txnNumber", "autocommit", "startTransaction", "readConcern", "writeConcern");
+    private static final BsonString REDACTED = new BsonString("?");
+    private static final RawBsonDocumentCodec RAW_CODEC = new RawBsonDocumentCodec();
+
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final boolean explain;
+    private final int bufferSize;
+    // Commands in flight; succeeded events only carry the command name
+    private final Map<Integer, StartedCommand> commands = new ConcurrentHashMap<>();
+    private final Deque<SlowOperation> recent = new ArrayDeque<>();
+    // One explanation at a time, so a burst of slow queries does not double the load on the database
+    private final ExecutorService explainer;
+
+    public SlowOperationDetector(
+        ObjectProvider<MongoTemplate> mongoTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${app.mongo.slow-operations.threshold:100ms}") Duration threshold,
+        @Value("${app.mongo.slow-operations.explain:true}") boolean explain,
+        @Value("${app.mongo.slow-operations.buffer-size:100}") int bufferSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = threshold.toNanos();
+        this.explain = explain;
+        this.bufferSize = Math.max(bufferSize, 1);
+        this.explainer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(this.bufferSize), Thread.ofVirtual().name("slow-operation-explain").factory());
+    }
+
+    @Override
+    public void customize(MongoClientSettings.Builder builder) {
+        builder.addCommandListener(this);
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        BsonDocument command = event.getCommand();
+        // Only queries need a copy for their shape and explanation; the driver reuses the command buffer
+        commands.put(event.getRequestId(), new StartedCommand(
+            MongoCommandMetrics.collection(event.getCommandName(), command),
+            EXPLAINABLE.contains(event.getCommandName()) ? rawCopy(command) : null));
+    }
+
+    // Byte copy of the command as sent; it is decoded only if the command turns out to be slow
+    private static RawBsonDocument rawCopy(BsonDocument command) {
+        return RAW_CODEC.decode(command.asBsonReader(), DecoderContext.builder().build());
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        StartedCommand started = commands.remove(event.getRequestId());
+        long elapsed = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        // Explanations run by this detector or the index report are not application queries
+        if (started == null || elapsed < thresholdNanos || "explain".equals(event.getCommandName())) {
+            return;
+        }
+        BsonDocument command = started.command;
+        long documents = MongoCommandMetrics.documents(event.getResponse());
+        // The sync driver publishes events on the thread that issued the command
+        SlowOperation operation = new SlowOperation(Instant.now(), event.getDatabaseName(), started.collection,
+            event.getCommandName(), TimeUnit.NANOSECONDS.toMillis(elapsed), caller(),
+            command != null ? shape(command).toJson() : null, documents >= 0 ? documents : null);
+        Counter.builder("mongodb.driver.commands.slow")
+            .description("MongoDB commands slower than the slow operation threshold")
+            .tags("command", operation.command, "collection", operation.collection)
+            .register(meterRegistry)
+            .increment();
+
+        if (!explain || command == null) {
+            record(operation);
+            return;
+        }
+        try {
+            explainer.execute(() -> record(explained(operation, command)));
+        } catch (RejectedExecutionException e) {
+            record(operation);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        commands.remove(event.getRequestId());
+    }
+
+    /**
+     * Latest slow operations, newest first
+     */
+    public synchronized List<SlowOperation> recent() {
+        List<SlowOperation> operations = new ArrayList<>(recent);
+        return operations.reversed();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainer.shutdownNow();
+    }
+
+    private SlowOperation explained(SlowOperation operation, BsonDocument command) {
+        try {
+            Document explanation = QueryPlans.explainExecution(
+                mongoTemplate.getObject().getMongoDatabaseFactory().getMongoDatabase(operation.database),
+                explainable(command));
+            return operation.withPlan(QueryPlans.docsExamined(explanation), QueryPlans.keysExamined(explanation),
+                QueryPlans.winningStages(explanation));
+        } catch (RuntimeException e) {
+            logger.debug("Cannot explain slow {} on '{}': {}", operation.command, operation.collection, e.getMessage());
+            return operation;
+        }
+    }
+
+    private void record(SlowOperation operation) {
+        synchronized (this) {
+            if (recent.size() == bufferSize) {
+                recent.removeFirst();
+            }
+            recent.addLast(operation);
+        }
+        if (operation.winningPlan != null) {
+            logger.warn("Slow MongoDB {} on '{}' took {} ms, called from {}: {} returned, {} documents and {} keys "
+                    + "examined by plan {}, shape {}", operation.command, operation.collection, operation.durationMillis,
+                operation.caller, operation.documentsReturned, operation.docsExamined, operation.keysExamined,
+                operation.winningPlan, operation.shape);
+        } else {
+            logger.warn("Slow MongoDB {} on '{}' took {} ms, called from {}: {} returned, shape {}",
+                operation.command, operation.collection, operation.durationMillis, operation.caller,
+                operation.documentsReturned, operation.shape);
+        }
+    }
+
+    // Innermost application frame, e.g. the service method calling a repository
+    private static String caller() {
+        return StackWalker.getInstance().walk(frames -> frames
+            .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                && !frame.getClassName().equals(SlowOperationDetector.class.getName()))
+            .findFirst()
+            .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+            .orElse("unknown"));
+    }
+
+    // The command without the session, transaction and driver fields explain does not accept
+    private static Document explainable(BsonDocument command) {
+        Document explainable = new Document();
+        command.forEach((key, value) -> {
+            if (!key.startsWith("$") && !SESSION_KEYS.contains(key)) {
+                explainable.put(key, value);
+            }
+        });
+        return explainable;
+    }
+
+    static BsonDocument shape(BsonDocument command) {
+        BsonDocument shape = new BsonDocument();
+        String commandName = command.getFirstKey();
+        command.forEach((key, value) -> {
+            // The command key names the collection, except for the update of a findAndModify
+            if (SHAPE_KEYS.contains(key) && !key.equals(commandName)) {
+                shape.put(key, shape(value, REDACTED_KEYS.contains(key)));
+            }
+        });
+        return shape;
+    }
+
+    // Field names and operators are kept; with redaction every value becomes "?" and
+    // arrays of values collapse to one, so {$in: [a, b, c]} reads {$in: ["?"]}
+    private static BsonValue shape(BsonValue value, boolean redact) {
+        if (value.isDocument()) {
+            BsonDocument shape = new BsonDocument();
+            value.asDocument().forEach((key, nested) -> shape.put(key, shape(nested, redact || REDACTED_KEYS.contains(key))));
+            return shape;
+        }
+        if (value.isArray()) {
+            BsonArray array = value.asArray();
+            if (redact && array.stream().noneMatch(element -> element.isDocument() || element.isArray())) {
+                return array.isEmpty() ? array : new BsonArray(List.of(REDACTED));
+            }
+            return new BsonArray(array.stream().map(element -> shape(element, redact)).toList());
+        }
+        return redact ? REDACTED : value;
+    }
+
+    /**
+     * A command that took longer than the threshold; the examined counts and plan are set when it was explained
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class SlowOperation {
+        private final Instant time;
+        private final String database;
+        private final String collection;
+        private final String command;
+        private final long durationMillis;
+        private final String caller;
+        private final String shape;
+        private final Long documentsReturned;
+        private final Long docsExamined;
+        private final Long keysExamined;
+        private final List<String> winningPlan;
+
+        SlowOperation(Instant time, String database, String collection, String command, long durationMillis,
+                      String caller, String shape, Long documentsReturned) {
+            this(time, database, collection, command, durationMillis, caller, shape, documentsReturned, null, null, null);
+        }
+
+        private SlowOperation(Instant time, String database, String collection, String command, long durationMillis,
+                              String caller, String shape, Long documentsReturned, Long docsExamined,
+                              Long keysExamined, List<String> winningPlan) {
+            this.time = time;
+            this.database = database;
+            this.collection = collection;
+            this.command = command;
+            this.durationMillis = durationMillis;
+            this.caller = caller;
+            this.shape = shape;
+            this.documentsReturned = documentsReturned;
+            this.docsExamined = docsExamined;
+            this.keysExamined = keysExamined;
+            this.winningPlan = winningPlan;
+        }
+
+        SlowOperation withPlan(long docsExamined, long keysExamined, List<String> winningPlan) {
+            return new SlowOperation(time, database, collection, command, durationMillis, caller, shape,
+                documentsReturned, docsExamined >= 0 ? docsExamined : null, keysExamined >= 0 ? keysExamined : null,
+                winningPlan);
+        }
+
+        // Getters
+        public Instant getTime() { return time; }
+        public String getDatabase() { return database; }
+        public String getCollection() { return collection; }
+        public String getCommand() { return command; }
+        public long getDurationMillis() { return durationMillis; }
+        public String getCaller() { return caller; }
+        public String getShape() { return shape; }
+        public Long getDocumentsReturned() { return documentsReturned; }
+        public Long getDocsExamined() { return docsExamined; }
+        public Long getKeysExamined() { return keysExamined; }
+        public List<String> getWinningPlan() { return winningPlan; }
+
+        public Boolean getCollectionScan() {
+            return winningPlan != null ? winningPlan.contains("COLLSCAN") : null;
+        }
+    }
+
+    private static class StartedCommand {
+        private final String collection;
+        private final BsonDocument command;
+
+        StartedCommand(String collection, BsonDocument command) {
+            this.collection = collection;
+            this.command = command;
+        }
+    }
+}
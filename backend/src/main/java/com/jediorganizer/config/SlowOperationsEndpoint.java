@@ -0,0 +1,28 @@
+package com.jediorganizer.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint listing the latest slow MongoDB operations, newest first
+ */
+@Component
+@Endpoint(id = "slowoperations")
+@ConditionalOnProperty(name = "app.mongo.slow-operations.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowOperationsEndpoint {
+
+    private final SlowOperationDetector detector;
+
+    public SlowOperationsEndpoint(SlowOperationDetector detector) {
+        this.detector = detector;
+    }
+
+    @ReadOperation
+    public List<SlowOperationDetector.SlowOperation> slowOperations() {
+        return detector.recent();
+    }
+}
@@ -0,0 +1,126 @@
+package com.jediorganizer.config;
+
+import com.jediorganizer.model.Task;
+import com.jediorganizer.model.TaskNote;
+import com.jediorganizer.repository.SearchKeywords;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Moves the notes embedded in task documents into the task_notes collection and
+ * replaces them with a note count.
+ * Runs before the web server starts: a full save of a task that was not migrated yet
+ * would drop its embedded notes. Notes are upserted by task, time and content, which a
+ * unique index enforces, so an interrupted run can safely be repeated and instances
+ * starting together don't duplicate notes.
+ * A rolling deploy from a release with embedded notes is not supported: an old instance can
+ * still embed a note in a task that a new instance then saves in full, dropping the note.
+ * Stop the old instances before starting this release.
+ */
+@Component
+public class TaskNotesMigration implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskNotesMigration.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final Migrations migrations;
+
+    public TaskNotesMigration(MongoTemplate mongoTemplate, Migrations migrations) {
+        this.mongoTemplate = mongoTemplate;
+        this.migrations = migrations;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrations.run("task-notes", this::moveEmbeddedNotes);
+    }
+
+    private long moveEmbeddedNotes() {
+        Query embedded = Query.query(Criteria.where("notes").exists(true)).cursorBatchSize(BATCH_SIZE);
+        embedded.fields().include("userId", "notes");
+        long migrated = 0;
+        Batch batch = new Batch();
+
+        try (Stream<Document> tasks = mongoTemplate.stream(embedded, Document.class,
+                mongoTemplate.getCollectionName(Task.class))) {
+            for (Document task : (Iterable<Document>) tasks::iterator) {
+                batch.add(task);
+                if (batch.size == BATCH_SIZE) {
+                    migrated += batch.execute();
+                    batch = new Batch();
+                }
+            }
+        }
+        migrated += batch.execute();
+        if (migrated > 0) {
+            logger.info("Moved the embedded notes of {} tasks to the task_notes collection", migrated);
+        }
+        return migrated;
+    }
+
+    /**
+     * Note upserts and task updates of a batch of tasks; the notes are written first
+     */
+    private class Batch {
+        private final BulkOperations notes = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskNote.class);
+        private final BulkOperations tasks = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        private int size;
+        private int noteCount;
+
+        void add(Document task) {
+            Object id = task.get("_id");
+            String taskId = id instanceof ObjectId objectId ? objectId.toHexString() : String.valueOf(id);
+            List<Document> embeddedNotes = task.getList("notes", Document.class, List.of());
+            for (Document note : embeddedNotes) {
+                String content = note.getString("content");
+                notes.upsert(
+                    Query.query(Criteria.where("taskId").is(taskId)
+                        .and("createdAt").is(note.get("createdAt"))
+                        .and("content").is(content)),
+                    new Update()
+                        .setOnInsert("userId", task.getString("userId"))
+                        .setOnInsert(SearchKeywords.FIELD, SearchKeywords.of(Collections.singletonList(content))));
+            }
+            noteCount += embeddedNotes.size();
+            // Increment: notes added through other instances meanwhile are already counted.
+            // The version is left alone so clients' ETags stay valid
+            tasks.updateOne(Query.query(Criteria.where("_id").is(id).and("notes").exists(true)),
+                new Update().unset("notes").inc("noteCount", embeddedNotes.size()));
+            size++;
+        }
+
+        long execute() {
+            if (size == 0) {
+                return 0;
+            }
+            if (noteCount > 0) {
+                try {
+                    notes.execute();
+                } catch (BulkOperationException e) {
+                    // Another instance inserted the same notes first
+                    if (e.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY)) {
+                        throw e;
+                    }
+                }
+            }
+            return tasks.execute().getModifiedCount();
+        }
+    }
+}
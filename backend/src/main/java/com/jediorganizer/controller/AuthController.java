@@ -64,7 +64,7 @@ public class AuthController {
         if (email != null) {
             Optional<User> userOpt = userService.findByEmail(email);
             if (userOpt.isPresent()) {
-                String newToken = jwtService.generateToken(email);
+                String newToken = jwtService.generateToken(userOpt.get());
                 Map<String, String> response = new HashMap<>();
                 response.put("token", newToken);
                 return ResponseEntity.ok(response);
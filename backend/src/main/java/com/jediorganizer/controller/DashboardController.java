@@ -0,0 +1,43 @@
+package com.jediorganizer.controller;
+
+import com.jediorganizer.dto.DashboardResponse;
+import com.jediorganizer.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for the combined startup view of the app.
+ */
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@Tag(name = "Dashboard", description = "Today, overdue, statistics and active projects in one call")
+public class DashboardController {
+
+    private static final String DEMO_USER_ID = "demo-user-123";
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    /**
+     * Get the dashboard, optionally limited to some sections
+     */
+    @GetMapping
+    @Operation(summary = "Get today's and overdue tasks, statistics and active projects")
+    public ResponseEntity<DashboardResponse> getDashboard(
+            @Parameter(description = "Comma-separated sections: today, overdue, taskStats, activeProjects, "
+                + "projectStats; all when omitted")
+            @RequestParam(required = false) List<String> fields) {
+        return ResponseEntity.ok(dashboardService.getDashboard(DEMO_USER_ID, DashboardResponse.Section.parse(fields)));
+    }
+}
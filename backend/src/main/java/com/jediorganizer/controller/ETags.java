@@ -0,0 +1,46 @@
+package com.jediorganizer.controller;
+
+import com.jediorganizer.exception.BusinessValidationException;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * ETag handling for versioned documents: the ETag is the document's optimistic locking version.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Build a 200 response carrying the version as the ETag
+     */
+    static <T> ResponseEntity<T> ok(T body, Long version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (version != null) {
+            builder.eTag(version.toString());
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Parse the expected version from an If-Match header; null when absent or "*"
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        // Proxies such as nginx weaken ETags when compressing responses, so accept W/ as well
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new BusinessValidationException("INVALID_IF_MATCH", "If-Match must carry an ETag returned by this API");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.jediorganizer.controller;
+
+import com.jediorganizer.service.ChangeBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for server-sent change notifications.
+ */
+@RestController
+@RequestMapping("/api/v1/events")
+@Tag(name = "Events", description = "Server-sent notifications of task and project changes")
+public class EventsController {
+
+    private static final String DEMO_USER_ID = "demo-user-123";
+
+    private final ChangeBroadcaster changeBroadcaster;
+
+    public EventsController(ChangeBroadcaster changeBroadcaster) {
+        this.changeBroadcaster = changeBroadcaster;
+    }
+
+    /**
+     * Open a stream of "task" and "project" change events for the current user
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream task and project changes")
+    public ResponseEntity<SseEmitter> streamChanges() {
+        return ResponseEntity.ok()
+            // Keep reverse proxies such as nginx from buffering the stream
+            .header("X-Accel-Buffering", "no")
+            .body(changeBroadcaster.subscribe(DEMO_USER_ID));
+    }
+}
@@ -1,11 +1,15 @@
 package com.jediorganizer.controller;
 
+import com.jediorganizer.dto.ProjectStatistics;
+import com.jediorganizer.exception.ResourceNotFoundException;
 import com.jediorganizer.model.Project;
 import com.jediorganizer.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,9 +18,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -49,6 +55,20 @@ public class ProjectController {
         return ResponseEntity.ok(projects);
     }
 
+    /**
+     * Export all projects as newline-delimited JSON, streamed from a database cursor
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all user projects as NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportProjects() {
+        String userId = "demo-user-123"; // Placeholder
+        StreamingResponseBody body = out -> projectService.exportProjects(userId, out);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"projects.ndjson\"")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
     /**
      * Get active projects for the current user
      */
@@ -68,7 +88,7 @@ public class ProjectController {
     public ResponseEntity<Project> getProjectById(@PathVariable String id) {
         String userId = "demo-user-123"; // Placeholder
         Optional<Project> project = projectService.findByIdAndUserId(id, userId);
-        return project.map(ResponseEntity::ok)
+        return project.map(found -> ETags.ok(found, found.getVersion()))
                      .orElse(ResponseEntity.notFound().build());
     }
 
@@ -89,24 +109,19 @@ public class ProjectController {
     }
 
     /**
-     * Update project
+     * Update project; with If-Match the update only applies to the given version (412 otherwise),
+     * without it a change made while the update runs fails it (409)
      */
     @PutMapping("/{id}")
     @Operation(summary = "Update project")
-    public ResponseEntity<Project> updateProject(@PathVariable String id, @RequestBody Project project) {
+    public ResponseEntity<Project> updateProject(@PathVariable String id, @RequestBody Project project,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
             String userId = "demo-user-123"; // Placeholder
-
-            // Verify project exists and belongs to user
-            Optional<Project> existingProject = projectService.findByIdAndUserId(id, userId);
-            if (existingProject.isEmpty()) {
-                return ResponseEntity.notFound().build();
-            }
-
-            project.setId(id);
-            project.setUserId(userId);
-            Project updatedProject = projectService.updateProject(project);
-            return ResponseEntity.ok(updatedProject);
+            Project updatedProject = projectService.replaceProject(id, userId, ETags.parseIfMatch(ifMatch), project);
+            return ETags.ok(updatedProject, updatedProject.getVersion());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -165,13 +180,14 @@ public class ProjectController {
     }
 
     /**
-     * Search projects by title
+     * Search projects by word prefixes, ranked by relevance
      */
     @GetMapping("/search")
-    @Operation(summary = "Search projects by title")
-    public ResponseEntity<List<Project>> searchProjects(@RequestParam String query) {
+    @Operation(summary = "Search projects by title and description")
+    public ResponseEntity<List<Project>> searchProjects(@RequestParam String query,
+                                                        @RequestParam(defaultValue = "50") int limit) {
         String userId = "demo-user-123"; // Placeholder
-        List<Project> projects = projectService.searchProjectsByTitle(userId, query);
+        List<Project> projects = projectService.searchProjects(userId, query, limit);
         return ResponseEntity.ok(projects);
     }
 
@@ -180,9 +196,10 @@ public class ProjectController {
      */
     @GetMapping("/stats")
     @Operation(summary = "Get project statistics")
-    public ResponseEntity<ProjectService.ProjectStatistics> getProjectStatistics() {
+    public ResponseEntity<ProjectStatistics> getProjectStatistics(
+            @RequestParam(defaultValue = "false") boolean includeProgress) {
         String userId = "demo-user-123"; // Placeholder
-        ProjectService.ProjectStatistics stats = projectService.getProjectStatistics(userId);
+        ProjectStatistics stats = projectService.getProjectStatistics(userId, includeProgress);
         return ResponseEntity.ok(stats);
     }
 
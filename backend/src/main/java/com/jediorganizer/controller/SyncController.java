@@ -0,0 +1,40 @@
+package com.jediorganizer.controller;
+
+import com.jediorganizer.dto.SyncResponse;
+import com.jediorganizer.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for incremental client synchronization.
+ */
+@RestController
+@RequestMapping("/api/v1/sync")
+@Tag(name = "Sync", description = "Incremental synchronization of tasks and projects")
+public class SyncController {
+
+    private static final String DEMO_USER_ID = "demo-user-123";
+
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    /**
+     * Get tasks and projects changed and deleted since the previous sync
+     */
+    @GetMapping
+    @Operation(summary = "Get changes since the previous sync")
+    public ResponseEntity<SyncResponse> sync(
+            @Parameter(description = "nextToken of the previous sync; omit for a full snapshot")
+            @RequestParam(required = false) String since) {
+        return ResponseEntity.ok(syncService.sync(DEMO_USER_ID, since));
+    }
+}
@@ -1,15 +1,26 @@
 package com.jediorganizer.controller;
 
+import com.jediorganizer.dto.BulkTaskRequest;
+import com.jediorganizer.dto.BulkTaskResponse;
 import com.jediorganizer.dto.CreateTaskRequest;
+import com.jediorganizer.dto.CursorPage;
+import com.jediorganizer.dto.CursorPageRequest;
+import com.jediorganizer.dto.TaskStatistics;
+import com.jediorganizer.dto.TaskSummary;
 import com.jediorganizer.dto.UpdateTaskRequest;
 import com.jediorganizer.exception.ResourceNotFoundException;
 import com.jediorganizer.model.Task;
+import com.jediorganizer.model.TaskNote;
+import com.jediorganizer.service.TaskNoteService;
 import com.jediorganizer.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,9 +29,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -36,19 +49,34 @@ import java.util.Optional;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskNoteService taskNoteService;
     private static final String DEMO_USER_ID = "demo-user-123";
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskNoteService taskNoteService) {
         this.taskService = taskService;
+        this.taskNoteService = taskNoteService;
     }
 
     @GetMapping
     @Operation(summary = "Get all user tasks")
-    public ResponseEntity<List<Task>> getUserTasks() {
-        List<Task> tasks = taskService.getUserTasks(DEMO_USER_ID);
+    public ResponseEntity<CursorPage<TaskSummary>> getUserTasks(@ParameterObject CursorPageRequest page) {
+        CursorPage<TaskSummary> tasks = taskService.getUserTasks(DEMO_USER_ID, page);
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * Export all tasks with their notes as newline-delimited JSON, streamed from a database cursor
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all user tasks with their notes as NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        StreamingResponseBody body = out -> taskService.exportTasks(DEMO_USER_ID, out);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
     /**
      * Get today's actionable tasks (core Jedi Techniques feature)
      */
@@ -64,8 +92,9 @@ public class TaskController {
      */
     @GetMapping("/status/{status}")
     @Operation(summary = "Get tasks by status")
-    public ResponseEntity<List<Task>> getTasksByStatus(@PathVariable Task.TaskStatus status) {
-        List<Task> tasks = taskService.getTasksByStatus(DEMO_USER_ID, status);
+    public ResponseEntity<CursorPage<TaskSummary>> getTasksByStatus(@PathVariable Task.TaskStatus status,
+                                                             @ParameterObject CursorPageRequest page) {
+        CursorPage<TaskSummary> tasks = taskService.getTasksByStatus(DEMO_USER_ID, status, page);
         return ResponseEntity.ok(tasks);
     }
 
@@ -74,8 +103,8 @@ public class TaskController {
      */
     @GetMapping("/overdue")
     @Operation(summary = "Get overdue tasks")
-    public ResponseEntity<List<Task>> getOverdueTasks() {
-        List<Task> tasks = taskService.getOverdueTasks(DEMO_USER_ID);
+    public ResponseEntity<CursorPage<TaskSummary>> getOverdueTasks(@ParameterObject CursorPageRequest page) {
+        CursorPage<TaskSummary> tasks = taskService.getOverdueTasks(DEMO_USER_ID, page);
         return ResponseEntity.ok(tasks);
     }
 
@@ -84,8 +113,9 @@ public class TaskController {
      */
     @GetMapping("/context/{context}")
     @Operation(summary = "Get tasks by context")
-    public ResponseEntity<List<Task>> getTasksByContext(@PathVariable String context) {
-        List<Task> tasks = taskService.getTasksByContext(DEMO_USER_ID, context);
+    public ResponseEntity<CursorPage<TaskSummary>> getTasksByContext(@PathVariable String context,
+                                                              @ParameterObject CursorPageRequest page) {
+        CursorPage<TaskSummary> tasks = taskService.getTasksByContext(DEMO_USER_ID, context, page);
         return ResponseEntity.ok(tasks);
     }
 
@@ -94,8 +124,9 @@ public class TaskController {
      */
     @GetMapping("/energy/{maxEnergy}")
     @Operation(summary = "Get tasks by maximum energy level")
-    public ResponseEntity<List<Task>> getTasksByEnergyLevel(@PathVariable int maxEnergy) {
-        List<Task> tasks = taskService.getTasksByEnergyLevel(DEMO_USER_ID, maxEnergy);
+    public ResponseEntity<CursorPage<TaskSummary>> getTasksByEnergyLevel(@PathVariable int maxEnergy,
+                                                                  @ParameterObject CursorPageRequest page) {
+        CursorPage<TaskSummary> tasks = taskService.getTasksByEnergyLevel(DEMO_USER_ID, maxEnergy, page);
         return ResponseEntity.ok(tasks);
     }
 
@@ -106,7 +137,7 @@ public class TaskController {
     @Operation(summary = "Get task by ID")
     public ResponseEntity<Task> getTaskById(@PathVariable String id) {
         Optional<Task> task = taskService.findByIdAndUserId(id, DEMO_USER_ID);
-        return task.map(ResponseEntity::ok)
+        return task.map(found -> ETags.ok(found, found.getVersion()))
                   .orElseThrow(() -> new ResourceNotFoundException("Task", id));
     }
 
@@ -123,21 +154,25 @@ public class TaskController {
     }
 
     /**
-     * Update task
+     * Update task; with If-Match the update only applies to the given version (412 otherwise),
+     * without it a change made while the update runs fails it (409)
      */
     @PutMapping("/{id}")
     @Operation(summary = "Update task")
-    public ResponseEntity<Task> updateTask(@PathVariable String id, @Valid @RequestBody UpdateTaskRequest request) {
-        // Verify task exists and belongs to user
-        Optional<Task> existingTaskOpt = taskService.findByIdAndUserId(id, DEMO_USER_ID);
-        if (existingTaskOpt.isEmpty()) {
-            throw new ResourceNotFoundException("Task", id);
-        }
+    public ResponseEntity<Task> updateTask(@PathVariable String id, @Valid @RequestBody UpdateTaskRequest request,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Task updatedTask = taskService.updateTask(id, DEMO_USER_ID, ETags.parseIfMatch(ifMatch), request::updateTask);
+        return ETags.ok(updatedTask, updatedTask.getVersion());
+    }
 
-        Task existingTask = existingTaskOpt.get();
-        request.updateTask(existingTask);
-        Task updatedTask = taskService.updateTask(existingTask);
-        return ResponseEntity.ok(updatedTask);
+    /**
+     * Apply a batch of task operations, returning a result per operation
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Apply a batch of task operations")
+    public ResponseEntity<BulkTaskResponse> applyBulkOperations(@Valid @RequestBody BulkTaskRequest request) {
+        BulkTaskResponse response = taskService.applyBulkOperations(DEMO_USER_ID, request.getOperations());
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -174,10 +209,21 @@ public class TaskController {
     @PostMapping("/{id}/notes")
     @Operation(summary = "Add note to task")
     public ResponseEntity<Task> addTaskNote(@PathVariable String id, @RequestBody String noteContent) {
-        Task task = taskService.addTaskNote(id, DEMO_USER_ID, noteContent);
+        Task task = taskNoteService.addNote(id, DEMO_USER_ID, noteContent);
         return ResponseEntity.ok(task);
     }
 
+    /**
+     * Get a page of task notes
+     */
+    @GetMapping("/{id}/notes")
+    @Operation(summary = "Get task notes")
+    public ResponseEntity<CursorPage<TaskNote>> getTaskNotes(@PathVariable String id,
+                                                             @ParameterObject CursorPageRequest page) {
+        CursorPage<TaskNote> notes = taskNoteService.getNotes(id, DEMO_USER_ID, page);
+        return ResponseEntity.ok(notes);
+    }
+
     /**
      * Add reflection to completed task
      */
@@ -194,12 +240,13 @@ public class TaskController {
     }
 
     /**
-     * Search tasks by title
+     * Search tasks by word prefixes, ranked by relevance
      */
     @GetMapping("/search")
-    @Operation(summary = "Search tasks by title")
-    public ResponseEntity<List<Task>> searchTasks(@RequestParam String query) {
-        List<Task> tasks = taskService.searchTasksByTitle(DEMO_USER_ID, query);
+    @Operation(summary = "Search tasks by title, description, notes and reflection")
+    public ResponseEntity<List<TaskSummary>> searchTasks(@RequestParam String query,
+                                                  @RequestParam(defaultValue = "50") int limit) {
+        List<TaskSummary> tasks = taskService.searchTasks(DEMO_USER_ID, query, limit);
         return ResponseEntity.ok(tasks);
     }
 
@@ -208,8 +255,8 @@ public class TaskController {
      */
     @GetMapping("/stats")
     @Operation(summary = "Get task statistics")
-    public ResponseEntity<TaskService.TaskStatistics> getTaskStatistics() {
-        TaskService.TaskStatistics stats = taskService.getTaskStatistics(DEMO_USER_ID);
+    public ResponseEntity<TaskStatistics> getTaskStatistics() {
+        TaskStatistics stats = taskService.getTaskStatistics(DEMO_USER_ID);
         return ResponseEntity.ok(stats);
     }
 
@@ -218,8 +265,8 @@ public class TaskController {
      */
     @GetMapping("/with-reflection")
     @Operation(summary = "Get tasks with reflection data")
-    public ResponseEntity<List<Task>> getTasksWithReflection() {
-        List<Task> tasks = taskService.getTasksWithReflection(DEMO_USER_ID);
+    public ResponseEntity<CursorPage<TaskSummary>> getTasksWithReflection(@ParameterObject CursorPageRequest page) {
+        CursorPage<TaskSummary> tasks = taskService.getTasksWithReflection(DEMO_USER_ID, page);
         return ResponseEntity.ok(tasks);
     }
 
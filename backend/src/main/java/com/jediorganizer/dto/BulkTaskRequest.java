@@ -0,0 +1,95 @@
+package com.jediorganizer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Data Transfer Object for batch task operations.
+ * Operations are applied independently; each one gets its own result.
+ */
+@Schema(description = "Batch of task operations")
+public class BulkTaskRequest {
+
+    @NotEmpty(message = "At least one operation is required")
+    @Valid
+    @Schema(description = "Operations to apply")
+    private List<Operation> operations;
+
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<Operation> operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * Kind of operation applied to a task
+     */
+    public enum OperationType {
+        START,
+        COMPLETE,
+        SCHEDULE,
+        MOVE_TO_PROJECT,
+        DELETE
+    }
+
+    /**
+     * A single task operation
+     */
+    @Schema(description = "Task operation")
+    public static class Operation {
+
+        @NotBlank(message = "Task ID is required")
+        @Schema(description = "Task ID", example = "64f1a2b3c4d5e6f7a8b9c0d1")
+        private String taskId;
+
+        @NotNull(message = "Operation type is required")
+        @Schema(description = "Operation type", example = "SCHEDULE")
+        private OperationType type;
+
+        @Schema(description = "Date to schedule the task for (SCHEDULE only)", example = "2025-09-20")
+        private LocalDate scheduledDate;
+
+        @Schema(description = "Target project ID, or null to detach the task (MOVE_TO_PROJECT only)")
+        private String projectId;
+
+        public String getTaskId() {
+            return taskId;
+        }
+
+        public void setTaskId(String taskId) {
+            this.taskId = taskId;
+        }
+
+        public OperationType getType() {
+            return type;
+        }
+
+        public void setType(OperationType type) {
+            this.type = type;
+        }
+
+        public LocalDate getScheduledDate() {
+            return scheduledDate;
+        }
+
+        public void setScheduledDate(LocalDate scheduledDate) {
+            this.scheduledDate = scheduledDate;
+        }
+
+        public String getProjectId() {
+            return projectId;
+        }
+
+        public void setProjectId(String projectId) {
+            this.projectId = projectId;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.jediorganizer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Per-operation results of a batch task request, in request order.
+ */
+@Schema(description = "Batch task operation results")
+public class BulkTaskResponse {
+
+    @Schema(description = "Result of every operation, in request order")
+    private final List<ItemResult> results;
+
+    @Schema(description = "Number of applied operations")
+    private final long applied;
+
+    @Schema(description = "Number of rejected or failed operations")
+    private final long failed;
+
+    public BulkTaskResponse(List<ItemResult> results) {
+        this.results = results;
+        this.applied = results.stream().filter(r -> r.getStatus() == ItemStatus.APPLIED).count();
+        this.failed = results.size() - applied;
+    }
+
+    public List<ItemResult> getResults() {
+        return results;
+    }
+
+    public long getApplied() {
+        return applied;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * Outcome of a single operation
+     */
+    public enum ItemStatus {
+        APPLIED,        // Write was accepted
+        NOT_FOUND,      // Task does not exist or belongs to another user
+        INVALID,        // Operation was rejected before writing
+        FAILED          // Write was attempted and failed
+    }
+
+    /**
+     * Result of a single operation
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResult {
+        private final String taskId;
+        private final BulkTaskRequest.OperationType type;
+        private final ItemStatus status;
+        private final String message;
+
+        public ItemResult(String taskId, BulkTaskRequest.OperationType type, ItemStatus status, String message) {
+            this.taskId = taskId;
+            this.type = type;
+            this.status = status;
+            this.message = message;
+        }
+
+        // Getters
+        public String getTaskId() { return taskId; }
+        public BulkTaskRequest.OperationType getType() { return type; }
+        public ItemStatus getStatus() { return status; }
+        public String getMessage() { return message; }
+    }
+}
@@ -0,0 +1,51 @@
+package com.jediorganizer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Server-sent notice that tasks or projects of the user changed.
+ * Carries IDs only; clients fetch the changes with the delta sync endpoint.
+ */
+@Schema(description = "Task or project change notification")
+public class ChangeNotification {
+
+    public enum Entity {
+        TASK, PROJECT
+    }
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Entity entity;
+    private final ChangeType changeType;
+    private final List<String> ids;
+
+    @Schema(description = "Whether a task change may affect the today view")
+    private final boolean scheduleChanged;
+
+    public ChangeNotification(Entity entity, ChangeType changeType, List<String> ids, boolean scheduleChanged) {
+        this.entity = entity;
+        this.changeType = changeType;
+        this.ids = ids;
+        this.scheduleChanged = scheduleChanged;
+    }
+
+    public Entity getEntity() {
+        return entity;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public List<String> getIds() {
+        return ids;
+    }
+
+    public boolean isScheduleChanged() {
+        return scheduleChanged;
+    }
+}
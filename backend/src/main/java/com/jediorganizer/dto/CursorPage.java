@@ -0,0 +1,40 @@
+package com.jediorganizer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Cursor-paginated list response.
+ * Pass {@code nextCursor} back as the {@code cursor} parameter to fetch the following page.
+ */
+@Schema(description = "Cursor-paginated list response")
+public class CursorPage<T> {
+
+    @Schema(description = "Items of the current page")
+    private final List<T> items;
+
+    @Schema(description = "Opaque cursor of the next page, null on the last page")
+    private final String nextCursor;
+
+    @Schema(description = "Whether more items are available")
+    private final boolean hasNext;
+
+    public CursorPage(List<T> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+}
@@ -0,0 +1,55 @@
+package com.jediorganizer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Query parameters for cursor-paginated list endpoints.
+ */
+@Schema(description = "Cursor pagination parameters")
+public class CursorPageRequest {
+
+    @Schema(description = "Opaque cursor returned as nextCursor by the previous page")
+    private String cursor;
+
+    @Schema(description = "Page size, capped by the server maximum", example = "50")
+    private Integer limit;
+
+    @Schema(description = "Sort field", allowableValues = {"createdAt", "updatedAt"}, example = "createdAt")
+    private String sort = "createdAt";
+
+    @Schema(description = "Sort direction", example = "ASC")
+    private Sort.Direction direction = Sort.Direction.ASC;
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public void setDirection(Sort.Direction direction) {
+        this.direction = direction;
+    }
+}
@@ -0,0 +1,99 @@
+package com.jediorganizer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jediorganizer.model.Project;
+import com.jediorganizer.model.Task;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Startup data of the app in one payload; sections that were not requested are omitted.
+ */
+@Schema(description = "Dashboard sections")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardResponse {
+
+    private final List<Task> today;
+    private final List<TaskSummary> overdue;
+    private final TaskStatistics taskStats;
+    private final List<Project> activeProjects;
+    private final ProjectStatistics projectStats;
+
+    public DashboardResponse(List<Task> today, List<TaskSummary> overdue, TaskStatistics taskStats,
+                             List<Project> activeProjects, ProjectStatistics projectStats) {
+        this.today = today;
+        this.overdue = overdue;
+        this.taskStats = taskStats;
+        this.activeProjects = activeProjects;
+        this.projectStats = projectStats;
+    }
+
+    @Schema(description = "Today's actionable tasks")
+    public List<Task> getToday() {
+        return today;
+    }
+
+    @Schema(description = "Overdue tasks")
+    public List<TaskSummary> getOverdue() {
+        return overdue;
+    }
+
+    @Schema(description = "Task statistics")
+    public TaskStatistics getTaskStats() {
+        return taskStats;
+    }
+
+    @Schema(description = "Active projects")
+    public List<Project> getActiveProjects() {
+        return activeProjects;
+    }
+
+    @Schema(description = "Project statistics")
+    public ProjectStatistics getProjectStats() {
+        return projectStats;
+    }
+
+    /**
+     * Selectable dashboard sections, named as in the response
+     */
+    public enum Section {
+        TODAY("today"),
+        OVERDUE("overdue"),
+        TASK_STATS("taskStats"),
+        ACTIVE_PROJECTS("activeProjects"),
+        PROJECT_STATS("projectStats");
+
+        private final String field;
+
+        Section(String field) {
+            this.field = field;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        /**
+         * Parse requested field names; all sections when none are given
+         */
+        public static Set<Section> parse(List<String> fields) {
+            if (fields == null || fields.isEmpty()) {
+                return EnumSet.allOf(Section.class);
+            }
+            Set<Section> sections = EnumSet.noneOf(Section.class);
+            for (String field : fields) {
+                String name = field.trim();
+                sections.add(Arrays.stream(values())
+                    .filter(section -> section.field.toLowerCase(Locale.ROOT).equals(name.toLowerCase(Locale.ROOT)))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown dashboard field: " + name)));
+            }
+            return sections;
+        }
+    }
+}
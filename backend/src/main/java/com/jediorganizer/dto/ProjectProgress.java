@@ -0,0 +1,33 @@
+package com.jediorganizer.dto;
+
+import com.jediorganizer.model.Project;
+
+/**
+ * Per-project task progress data class
+ */
+public class ProjectProgress {
+    private final String projectId;
+    private final String title;
+    private final Project.ProjectStatus status;
+    private final long totalTasks;
+    private final long completedTasks;
+    private final double completionRatio;
+    
+    public ProjectProgress(String projectId, String title, Project.ProjectStatus status,
+                           long totalTasks, long completedTasks, double completionRatio) {
+        this.projectId = projectId;
+        this.title = title;
+        this.status = status;
+        this.totalTasks = totalTasks;
+        this.completedTasks = completedTasks;
+        this.completionRatio = completionRatio;
+    }
+    
+    // Getters
+    public String getProjectId() { return projectId; }
+    public String getTitle() { return title; }
+    public Project.ProjectStatus getStatus() { return status; }
+    public long getTotalTasks() { return totalTasks; }
+    public long getCompletedTasks() { return completedTasks; }
+    public double getCompletionRatio() { return completionRatio; }
+}
@@ -0,0 +1,44 @@
+package com.jediorganizer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Project statistics data class
+ */
+public class ProjectStatistics {
+    private final long totalProjects;
+    private final long activeProjects;
+    private final long completedProjects;
+    private final long onHoldProjects;
+    private final long archivedProjects;
+    private final long overdueProjects;
+    private final long highPriorityProjects;
+    private List<ProjectProgress> projectProgress;
+    
+    public ProjectStatistics(long totalProjects, long activeProjects, long completedProjects,
+                           long onHoldProjects, long archivedProjects, long overdueProjects,
+                           long highPriorityProjects) {
+        this.totalProjects = totalProjects;
+        this.activeProjects = activeProjects;
+        this.completedProjects = completedProjects;
+        this.onHoldProjects = onHoldProjects;
+        this.archivedProjects = archivedProjects;
+        this.overdueProjects = overdueProjects;
+        this.highPriorityProjects = highPriorityProjects;
+    }
+    
+    // Getters
+    public long getTotalProjects() { return totalProjects; }
+    public long getActiveProjects() { return activeProjects; }
+    public long getCompletedProjects() { return completedProjects; }
+    public long getOnHoldProjects() { return onHoldProjects; }
+    public long getArchivedProjects() { return archivedProjects; }
+    public long getOverdueProjects() { return overdueProjects; }
+    public long getHighPriorityProjects() { return highPriorityProjects; }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public List<ProjectProgress> getProjectProgress() { return projectProgress; }
+    public void setProjectProgress(List<ProjectProgress> projectProgress) { this.projectProgress = projectProgress; }
+}
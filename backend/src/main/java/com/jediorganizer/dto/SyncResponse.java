@@ -0,0 +1,80 @@
+package com.jediorganizer.dto;
+
+import com.jediorganizer.model.Project;
+import com.jediorganizer.model.Task;
+import com.jediorganizer.model.Tombstone;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Tasks and projects changed, and deletions made, since a sync token.
+ */
+@Schema(description = "Delta sync result")
+public class SyncResponse {
+
+    @Schema(description = "True when this is a full snapshot and local data should be replaced")
+    private final boolean reset;
+
+    @Schema(description = "Created or changed tasks; may repeat tasks returned by the previous sync")
+    private final List<Task> tasks;
+
+    @Schema(description = "Created or changed projects; may repeat projects returned by the previous sync")
+    private final List<Project> projects;
+
+    @Schema(description = "Deleted tasks and projects")
+    private final List<Deletion> deletions;
+
+    @Schema(description = "Token to pass as 'since' on the next sync")
+    private final String nextToken;
+
+    public SyncResponse(boolean reset, List<Task> tasks, List<Project> projects, List<Deletion> deletions,
+                        String nextToken) {
+        this.reset = reset;
+        this.tasks = tasks;
+        this.projects = projects;
+        this.deletions = deletions;
+        this.nextToken = nextToken;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    public List<Project> getProjects() {
+        return projects;
+    }
+
+    public List<Deletion> getDeletions() {
+        return deletions;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    /**
+     * A deleted task or project
+     */
+    public static class Deletion {
+        private final Tombstone.EntityType type;
+        private final String id;
+        private final LocalDateTime deletedAt;
+
+        public Deletion(Tombstone.EntityType type, String id, LocalDateTime deletedAt) {
+            this.type = type;
+            this.id = id;
+            this.deletedAt = deletedAt;
+        }
+
+        // Getters
+        public Tombstone.EntityType getType() { return type; }
+        public String getId() { return id; }
+        public LocalDateTime getDeletedAt() { return deletedAt; }
+    }
+}
@@ -0,0 +1,47 @@
+package com.jediorganizer.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.jediorganizer.model.Task;
+import com.jediorganizer.model.TaskNote;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Exported task: the task fields with its notes embedded, one task per NDJSON line.
+ * Notes keep the shape they had when they were stored inside the task.
+ */
+public class TaskExport {
+
+    @JsonUnwrapped
+    private final Task task;
+    private final List<Note> notes;
+
+    public TaskExport(Task task, List<TaskNote> notes) {
+        this.task = task;
+        this.notes = notes.stream()
+            .map(note -> new Note(note.getContent(), note.getCreatedAt()))
+            .toList();
+    }
+
+    // Getters
+    public Task getTask() { return task; }
+    public List<Note> getNotes() { return notes; }
+
+    /**
+     * Exported note of a task
+     */
+    public static class Note {
+        private final String content;
+        private final LocalDateTime createdAt;
+
+        public Note(String content, LocalDateTime createdAt) {
+            this.content = content;
+            this.createdAt = createdAt;
+        }
+
+        // Getters
+        public String getContent() { return content; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+    }
+}
@@ -0,0 +1,35 @@
+package com.jediorganizer.dto;
+
+/**
+ * Task statistics data class
+ */
+public class TaskStatistics {
+    private final long totalTasks;
+    private final long todoTasks;
+    private final long inProgressTasks;
+    private final long completedTasks;
+    private final long waitingTasks;
+    private final long todaysTasks;
+    private final long overdueTasks;
+
+    public TaskStatistics(long totalTasks, long todoTasks, long inProgressTasks,
+                        long completedTasks, long waitingTasks, long todaysTasks,
+                        long overdueTasks) {
+        this.totalTasks = totalTasks;
+        this.todoTasks = todoTasks;
+        this.inProgressTasks = inProgressTasks;
+        this.completedTasks = completedTasks;
+        this.waitingTasks = waitingTasks;
+        this.todaysTasks = todaysTasks;
+        this.overdueTasks = overdueTasks;
+    }
+
+    // Getters
+    public long getTotalTasks() { return totalTasks; }
+    public long getTodoTasks() { return todoTasks; }
+    public long getInProgressTasks() { return inProgressTasks; }
+    public long getCompletedTasks() { return completedTasks; }
+    public long getWaitingTasks() { return waitingTasks; }
+    public long getTodaysTasks() { return todaysTasks; }
+    public long getOverdueTasks() { return overdueTasks; }
+}
@@ -0,0 +1,82 @@
+package com.jediorganizer.dto;
+
+import com.jediorganizer.model.Task;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * List view of a task: the fields needed to render a task row, with the notes and
+ * subtasks reduced to their counts. The full task is available from its own endpoint.
+ * The timestamps are the keys of cursor pagination, whose positions are read from the summaries.
+ */
+@Schema(description = "Task list item")
+public class TaskSummary {
+
+    /**
+     * Find projection producing a summary; the subtask count is computed by the server (MongoDB 4.4+)
+     */
+    public static final String FIELDS = "{ 'title': 1, 'status': 1, 'type': 1, 'scheduledDate': 1, 'dueDate': 1, "
+        + "'energy': 1, 'context': 1, 'projectId': 1, 'noteCount': 1, 'createdAt': 1, 'updatedAt': 1, "
+        + "'subtaskCount': { $size: { $ifNull: ['$subtasks', []] } } }";
+
+    private final String id;
+    private final String title;
+    private final Task.TaskStatus status;
+    private final Task.TaskType type;
+    private final LocalDate scheduledDate;
+    private final LocalDateTime dueDate;
+    private final int energy;
+    private final String context;
+    private final String projectId;
+    private final int noteCount;
+    private final int subtaskCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public TaskSummary(String id, String title, Task.TaskStatus status, Task.TaskType type,
+                       LocalDate scheduledDate, LocalDateTime dueDate, int energy, String context,
+                       String projectId, int noteCount, int subtaskCount,
+                       LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.type = type;
+        this.scheduledDate = scheduledDate;
+        this.dueDate = dueDate;
+        this.energy = energy;
+        this.context = context;
+        this.projectId = projectId;
+        this.noteCount = noteCount;
+        this.subtaskCount = subtaskCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Summarize a task that was already loaded in full
+     */
+    public static TaskSummary of(Task task) {
+        return new TaskSummary(task.getId(), task.getTitle(), task.getStatus(), task.getType(),
+            task.getScheduledDate(), task.getDueDate(), task.getEnergy(), task.getContext(), task.getProjectId(),
+            task.getNoteCount(),
+            task.getSubtasks() != null ? task.getSubtasks().size() : 0,
+            task.getCreatedAt(), task.getUpdatedAt());
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public String getTitle() { return title; }
+    public Task.TaskStatus getStatus() { return status; }
+    public Task.TaskType getType() { return type; }
+    public LocalDate getScheduledDate() { return scheduledDate; }
+    public LocalDateTime getDueDate() { return dueDate; }
+    public int getEnergy() { return energy; }
+    public String getContext() { return context; }
+    public String getProjectId() { return projectId; }
+    public int getNoteCount() { return noteCount; }
+    public int getSubtaskCount() { return subtaskCount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -4,6 +4,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -100,6 +102,65 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handle If-Match preconditions that no longer hold
+     */
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleVersionConflictException(
+            VersionConflictException ex, HttpServletRequest request) {
+        
+        logger.warn("Version conflict on {}: {}", request.getRequestURI(), ex.getMessage());
+        
+        Map<String, String> details = new HashMap<>();
+        details.put("resourceType", ex.getResourceType());
+        details.put("resourceId", ex.getResourceId());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                "PRECONDITION_FAILED",
+                ex.getMessage(),
+                details,
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    /**
+     * Handle concurrent modifications of writes without If-Match or that outlasted the server-side retries
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+        
+        logger.warn("Concurrent modification on {}: {}", request.getRequestURI(), ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                "CONCURRENT_MODIFICATION",
+                "The resource was modified concurrently. Please retry.",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handle reads that did not finish within their deadline
+     */
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleQueryTimeoutException(
+            QueryTimeoutException ex, HttpServletRequest request) {
+        
+        logger.warn("Query timeout on {}: {}", request.getRequestURI(), ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                "QUERY_TIMEOUT",
+                "The request took too long. Please retry.",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     /**
      * Handle business validation exceptions
      */
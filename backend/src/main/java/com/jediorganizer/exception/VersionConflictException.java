@@ -0,0 +1,23 @@
+package com.jediorganizer.exception;
+
+/**
+ * Custom exception for conditional writes whose expected version no longer matches.
+ */
+public class VersionConflictException extends RuntimeException {
+    private final String resourceType;
+    private final String resourceId;
+
+    public VersionConflictException(String resourceType, String resourceId) {
+        super(String.format("%s with id '%s' has been modified since it was read", resourceType, resourceId));
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public String getResourceId() {
+        return resourceId;
+    }
+}
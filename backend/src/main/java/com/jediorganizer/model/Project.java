@@ -1,6 +1,9 @@
 package com.jediorganizer.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -10,11 +13,25 @@ import java.time.LocalDateTime;
  * Projects group related tasks and implement the "Plan" mode of Jedi Techniques.
  */
 @Document(collection = "projects")
+@CompoundIndexes({
+    @CompoundIndex(def = "{ 'userId': 1, 'status': 1 }"),
+    @CompoundIndex(def = "{ 'userId': 1, 'priority': 1 }"),
+    // Overdue queries
+    @CompoundIndex(def = "{ 'userId': 1, 'dueDate': 1 }"),
+    @CompoundIndex(def = "{ 'userId': 1, 'createdAt': -1 }"),
+    @CompoundIndex(def = "{ 'userId': 1, 'updatedAt': -1 }"),
+    // Keyword search over the stored word prefixes (see SearchKeywords)
+    @CompoundIndex(def = "{ 'userId': 1, 'searchKeywords': 1 }")
+})
 public class Project {
 
     @Id
     private String id;
 
+    // Optimistic locking version, exposed to clients as the ETag
+    @Version
+    private Long version;
+
     private String title;
     private String description;
 
@@ -57,6 +74,14 @@ public class Project {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getTitle() {
         return title;
     }
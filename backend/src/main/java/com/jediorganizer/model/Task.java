@@ -1,6 +1,9 @@
 package com.jediorganizer.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
@@ -13,11 +16,34 @@ import java.util.List;
  * Implements the core "Act" mode of Jedi Techniques methodology.
  */
 @Document(collection = "tasks")
+@CompoundIndexes({
+    // Status lists, status counters and per-status paging
+    @CompoundIndex(def = "{ 'userId': 1, 'status': 1, 'createdAt': -1 }"),
+    // Today view: both branches of findTodaysActionableTasks, scheduled date ranges
+    @CompoundIndex(def = "{ 'userId': 1, 'scheduledDate': 1, 'status': 1 }"),
+    // Overdue queries
+    @CompoundIndex(def = "{ 'userId': 1, 'dueDate': 1 }"),
+    @CompoundIndex(def = "{ 'userId': 1, 'projectId': 1 }"),
+    // Project task lists and the project progress lookup, which are not scoped by user
+    @CompoundIndex(def = "{ 'projectId': 1, 'status': 1 }"),
+    @CompoundIndex(def = "{ 'userId': 1, 'context': 1 }"),
+    @CompoundIndex(def = "{ 'userId': 1, 'energy': 1 }"),
+    @CompoundIndex(def = "{ 'userId': 1, 'completedAt': -1 }"),
+    // Default listing order and keyset pagination
+    @CompoundIndex(def = "{ 'userId': 1, 'createdAt': -1 }"),
+    @CompoundIndex(def = "{ 'userId': 1, 'updatedAt': -1 }"),
+    // Keyword search over the stored word prefixes (see SearchKeywords)
+    @CompoundIndex(def = "{ 'userId': 1, 'searchKeywords': 1 }")
+})
 public class Task {
 
     @Id
     private String id;
 
+    // Optimistic locking version, exposed to clients as the ETag
+    @Version
+    private Long version;
+
     private String title;
     private String description;
 
@@ -43,7 +69,7 @@ public class Task {
 
     // Task workflow
     private List<String> subtasks = new ArrayList<>();
-    private List<TaskNote> notes = new ArrayList<>();
+    private int noteCount; // Notes are stored in the task_notes collection
 
     // Reflection data
     private TaskReflection reflection;
@@ -68,6 +94,14 @@ public class Task {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -202,12 +236,12 @@ public class Task {
         this.subtasks = subtasks != null ? subtasks : new ArrayList<>();
     }
 
-    public List<TaskNote> getNotes() {
-        return notes;
+    public int getNoteCount() {
+        return noteCount;
     }
 
-    public void setNotes(List<TaskNote> notes) {
-        this.notes = notes != null ? notes : new ArrayList<>();
+    public void setNoteCount(int noteCount) {
+        this.noteCount = noteCount;
     }
 
     public TaskReflection getReflection() {
@@ -227,14 +261,6 @@ public class Task {
         setStatus(TaskStatus.COMPLETED);
     }
 
-    public void addNote(String content) {
-        if (this.notes == null) {
-            this.notes = new ArrayList<>();
-        }
-        this.notes.add(new TaskNote(content));
-        this.updatedAt = LocalDateTime.now();
-    }
-
     public void addSubtask(String subtask) {
         if (this.subtasks == null) {
             this.subtasks = new ArrayList<>();
@@ -243,12 +269,18 @@ public class Task {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public boolean isOverdue() {
-        return dueDate != null && LocalDateTime.now().isAfter(dueDate) && status != TaskStatus.COMPLETED;
+    /**
+     * Check whether the task is past due, given the current time in the user's time zone
+     */
+    public boolean isOverdue(LocalDateTime now) {
+        return dueDate != null && now.isAfter(dueDate) && status != TaskStatus.COMPLETED;
     }
 
-    public boolean isScheduledForToday() {
-        return scheduledDate != null && scheduledDate.equals(LocalDate.now());
+    /**
+     * Check whether the task is scheduled for the given user-local date
+     */
+    public boolean isScheduledForToday(LocalDate today) {
+        return scheduledDate != null && scheduledDate.equals(today);
     }
 
     @Override
@@ -281,39 +313,6 @@ public class Task {
         SOMEDAY_MAYBE   // Ideas for future consideration
     }
 
-    /**
-     * Task note for additional information
-     */
-    public static class TaskNote {
-        private String content;
-        private LocalDateTime createdAt;
-
-        public TaskNote() {
-            this.createdAt = LocalDateTime.now();
-        }
-
-        public TaskNote(String content) {
-            this();
-            this.content = content;
-        }
-
-        public String getContent() {
-            return content;
-        }
-
-        public void setContent(String content) {
-            this.content = content;
-        }
-
-        public LocalDateTime getCreatedAt() {
-            return createdAt;
-        }
-
-        public void setCreatedAt(LocalDateTime createdAt) {
-            this.createdAt = createdAt;
-        }
-    }
-
     /**
      * Task reflection for the "Reflect" mode
      */
@@ -0,0 +1,82 @@
+package com.jediorganizer.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Note on a task, stored in its own collection so tasks stay the same size however many
+ * notes they collect. Notes are append-only; the task keeps a count of them.
+ */
+@Document(collection = "task_notes")
+@CompoundIndexes({
+    // Paging through the notes of a task and removing them with the task. Unique, so instances
+    // running TaskNotesMigration at the same time upsert each embedded note once instead of twice
+    @CompoundIndex(def = "{ 'taskId': 1, 'createdAt': 1, 'content': 1 }", unique = true),
+    // Keyword search over the stored word prefixes (see SearchKeywords)
+    @CompoundIndex(def = "{ 'userId': 1, 'searchKeywords': 1 }")
+})
+public class TaskNote {
+
+    @Id
+    private String id;
+
+    private String taskId;
+    private String userId;
+    private String content;
+    private LocalDateTime createdAt;
+
+    public TaskNote() {
+    }
+
+    public TaskNote(String taskId, String userId, String content, LocalDateTime createdAt) {
+        this.taskId = taskId;
+        this.userId = userId;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(String taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
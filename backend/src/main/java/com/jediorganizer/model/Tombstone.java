@@ -0,0 +1,90 @@
+package com.jediorganizer.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Record of a deleted task or project, so delta sync clients can remove their local copy.
+ * Tombstones expire after {@link #RETENTION}; older sync tokens require a full resync.
+ */
+@Document(collection = "tombstones")
+@CompoundIndex(def = "{ 'userId': 1, 'deletedAt': 1 }")
+public class Tombstone {
+
+    /** How long deletions are kept; must match the TTL index on deletedAt */
+    public static final Duration RETENTION = Duration.ofDays(30);
+
+    @Id
+    private String id;
+
+    private String userId;
+    private EntityType entityType;
+    private String entityId;
+
+    // Named like the index init-db.js creates, so auto-index-creation finds it instead of conflicting
+    @Indexed(name = "deletedAt_1", expireAfter = "30d")
+    private LocalDateTime deletedAt;
+
+    public Tombstone() {
+    }
+
+    public Tombstone(String userId, EntityType entityType, String entityId, LocalDateTime deletedAt) {
+        this.userId = userId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.deletedAt = deletedAt;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(EntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(String entityId) {
+        this.entityId = entityId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    /**
+     * Type of the deleted document
+     */
+    public enum EntityType {
+        TASK, PROJECT
+    }
+}
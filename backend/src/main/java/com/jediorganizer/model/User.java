@@ -31,6 +31,9 @@ public class User {
 
     // Account status
     private boolean active = true;
+    private long tokenVersion; // Bumped to revoke previously issued tokens
+    @Indexed(name = "tokensRevokedAt_1", sparse = true) // Named like the index init-db.js creates
+    private LocalDateTime tokensRevokedAt;
     private LocalDateTime createdAt;
     private LocalDateTime lastLoginAt;
 
@@ -119,6 +122,22 @@ public class User {
         this.active = active;
     }
 
+    public long getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(long tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
+    public LocalDateTime getTokensRevokedAt() {
+        return tokensRevokedAt;
+    }
+
+    public void setTokensRevokedAt(LocalDateTime tokensRevokedAt) {
+        this.tokensRevokedAt = tokensRevokedAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -140,6 +159,11 @@ public class User {
         this.lastLoginAt = LocalDateTime.now();
     }
 
+    public void revokeIssuedTokens() {
+        this.tokenVersion++;
+        this.tokensRevokedAt = LocalDateTime.now();
+    }
+
     @Override
     public String toString() {
         return "User{" +
@@ -1,11 +1,19 @@
 package com.jediorganizer.repository;
 
+import com.jediorganizer.dto.ProjectProgress;
+import com.jediorganizer.dto.ProjectStatistics;
 import com.jediorganizer.model.Project;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Project entity operations.
@@ -18,7 +26,19 @@ public interface ProjectRepository extends MongoRepository<Project, String> {
      * Find all projects for a specific user
      */
     List<Project> findByUserId(String userId);
+
+    /**
+     * Stream all projects for a user through a database cursor (caller must close the stream)
+     */
+    @Meta(cursorBatchSize = 500)
+    Stream<Project> streamByUserId(String userId);
     
+    /**
+     * Find which of the given projects belong to the user, loading only their IDs
+     */
+    @Query(fields = "{ '_id': 1 }")
+    List<Project> findByIdInAndUserId(Collection<String> ids, String userId);
+
     /**
      * Find projects by user and status
      */
@@ -59,7 +79,65 @@ public interface ProjectRepository extends MongoRepository<Project, String> {
     long countByUserIdAndStatus(String userId, Project.ProjectStatus status);
     
     /**
-     * Find projects by title containing text (case-insensitive search)
+     * Find projects carrying every search keyword, most recently updated first
+     */
+    @Query(value = "{ 'userId': ?0, 'searchKeywords': { $all: ?1 } }", sort = "{ 'updatedAt': -1 }")
+    List<Project> findBySearchKeywords(String userId, List<String> keywords, Limit limit);
+
+    /**
+     * Compute all project statistics counters for a user in a single aggregation.
+     * Returns null when the user has no projects.
+     */
+    @Aggregation(pipeline = {
+        "{ $match: { 'userId': ?0 } }",
+        "{ $group: { " +
+            "'_id': null, " +
+            "'totalProjects': { $sum: 1 }, " +
+            "'activeProjects': { $sum: { $cond: [ { $eq: ['$status', 'ACTIVE'] }, 1, 0 ] } }, " +
+            "'completedProjects': { $sum: { $cond: [ { $eq: ['$status', 'COMPLETED'] }, 1, 0 ] } }, " +
+            "'onHoldProjects': { $sum: { $cond: [ { $eq: ['$status', 'ON_HOLD'] }, 1, 0 ] } }, " +
+            "'archivedProjects': { $sum: { $cond: [ { $eq: ['$status', 'ARCHIVED'] }, 1, 0 ] } }, " +
+            "'overdueProjects': { $sum: { $cond: [ { $and: [ " +
+                "{ $gt: ['$dueDate', null] }, " +
+                "{ $lt: ['$dueDate', ?1] }, " +
+                "{ $ne: ['$status', 'COMPLETED'] } " +
+            "] }, 1, 0 ] } }, " +
+            "'highPriorityProjects': { $sum: { $cond: [ { $lte: ['$priority', 2] }, 1, 0 ] } } " +
+        "} }",
+        "{ $project: { '_id': 0 } }"
+    })
+    ProjectStatistics aggregateProjectStatistics(String userId, LocalDateTime now);
+
+    /**
+     * Per-project task counts and completion ratio, joined from the tasks collection
      */
-    List<Project> findByUserIdAndTitleContainingIgnoreCase(String userId, String title);
+    @Aggregation(pipeline = {
+        "{ $match: { 'userId': ?0 } }",
+        "{ $lookup: { " +
+            "'from': 'tasks', " +
+            "'let': { 'projectId': { $toString: '$_id' } }, " +
+            "'pipeline': [ " +
+                "{ $match: { $expr: { $eq: ['$projectId', '$$projectId'] } } }, " +
+                "{ $group: { " +
+                    "'_id': null, " +
+                    "'total': { $sum: 1 }, " +
+                    "'completed': { $sum: { $cond: [ { $eq: ['$status', 'COMPLETED'] }, 1, 0 ] } } " +
+                "} } " +
+            "], " +
+            "'as': 'taskCounts' " +
+        "} }",
+        "{ $unwind: { 'path': '$taskCounts', 'preserveNullAndEmptyArrays': true } }",
+        "{ $project: { " +
+            "'_id': 0, " +
+            "'projectId': { $toString: '$_id' }, " +
+            "'title': 1, " +
+            "'status': 1, " +
+            "'totalTasks': { $ifNull: ['$taskCounts.total', 0] }, " +
+            "'completedTasks': { $ifNull: ['$taskCounts.completed', 0] } " +
+        "} }",
+        "{ $addFields: { 'completionRatio': { $cond: [ " +
+            "{ $eq: ['$totalTasks', 0] }, 0, { $divide: ['$completedTasks', '$totalTasks'] } " +
+        "] } } }"
+    })
+    List<ProjectProgress> aggregateProjectProgress(String userId);
 }
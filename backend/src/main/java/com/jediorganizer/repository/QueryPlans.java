@@ -0,0 +1,101 @@
+package com.jediorganizer.repository;
+
+import com.mongodb.client.MongoDatabase;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helpers for running and reading MongoDB query plan explanations.
+ */
+public final class QueryPlans {
+
+    private QueryPlans() {
+    }
+
+    /**
+     * Explain a find or aggregate command without executing it
+     */
+    public static Document explain(MongoDatabase database, Document command) {
+        return database.runCommand(new Document("explain", command).append("verbosity", "queryPlanner"));
+    }
+
+    /**
+     * Explain a command with the execution statistics of its winning plan.
+     * The query runs, but writes of update, delete and findAndModify commands are not applied.
+     */
+    public static Document explainExecution(MongoDatabase database, Document command) {
+        return database.runCommand(new Document("explain", command).append("verbosity", "executionStats"));
+    }
+
+    /**
+     * Documents the winning plan examined, or -1 when the explanation has no execution statistics
+     */
+    public static long docsExamined(Document explain) {
+        Document executionStats = findSection(explain, "executionStats");
+        return executionStats != null && executionStats.get("totalDocsExamined") instanceof Number examined
+            ? examined.longValue()
+            : -1;
+    }
+
+    /**
+     * Index keys the winning plan examined, or -1 when the explanation has no execution statistics
+     */
+    public static long keysExamined(Document explain) {
+        Document executionStats = findSection(explain, "executionStats");
+        return executionStats != null && executionStats.get("totalKeysExamined") instanceof Number examined
+            ? examined.longValue()
+            : -1;
+    }
+
+    /**
+     * Stage names of the winning plan, outermost first
+     */
+    public static List<String> winningStages(Document explain) {
+        Document queryPlanner = findSection(explain, "queryPlanner");
+        if (queryPlanner == null) {
+            return List.of();
+        }
+        Object plan = queryPlanner.get("winningPlan");
+        // The slot-based engine nests the classic plan tree under queryPlan
+        if (plan instanceof Document document && document.get("queryPlan") instanceof Document queryPlan) {
+            plan = queryPlan;
+        }
+        List<String> stages = new ArrayList<>();
+        collectStages(plan, stages);
+        return stages;
+    }
+
+    /**
+     * Check whether the winning plan scans the whole collection
+     */
+    public static boolean isCollectionScan(Document explain) {
+        return winningStages(explain).contains("COLLSCAN");
+    }
+
+    // Find explains report the planner and statistics at the top level, aggregate explains in the first $cursor stage
+    private static Document findSection(Document explain, String name) {
+        if (explain.get(name) instanceof Document section) {
+            return section;
+        }
+        if (explain.get("stages") instanceof List<?> stages && !stages.isEmpty()
+                && stages.get(0) instanceof Document first
+                && first.get("$cursor") instanceof Document cursor
+                && cursor.get(name) instanceof Document section) {
+            return section;
+        }
+        return null;
+    }
+
+    private static void collectStages(Object node, List<String> stages) {
+        if (node instanceof Document document) {
+            if (document.get("stage") instanceof String stage) {
+                stages.add(stage);
+            }
+            document.values().forEach(value -> collectStages(value, stages));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectStages(value, stages));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.jediorganizer.repository;
+
+import com.jediorganizer.model.Project;
+import com.jediorganizer.model.Task;
+import com.jediorganizer.model.TaskNote;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Derives the search keywords stored on tasks and projects: the lower-cased prefixes
+ * (edge n-grams) of every word of their text, so a prefix search becomes an indexed equality match.
+ */
+public final class SearchKeywords {
+
+    public static final String FIELD = "searchKeywords";
+
+    /** Shortest stored prefix; shorter query words are ignored */
+    public static final int MIN_PREFIX = 2;
+
+    /** Longest stored prefix; longer query words are matched on this prefix */
+    public static final int MAX_PREFIX = 15;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private SearchKeywords() {
+    }
+
+    /**
+     * Split text into lower-cased words
+     */
+    public static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+            .filter(word -> !word.isEmpty())
+            .toList();
+    }
+
+    /**
+     * Keywords of the given texts
+     */
+    public static List<String> of(Collection<String> texts) {
+        Set<String> keywords = new LinkedHashSet<>();
+        for (String text : texts) {
+            for (String word : words(text)) {
+                for (int length = MIN_PREFIX; length <= Math.min(word.length(), MAX_PREFIX); length++) {
+                    keywords.add(word.substring(0, length));
+                }
+            }
+        }
+        return new ArrayList<>(keywords);
+    }
+
+    /**
+     * Keywords of a task: title, description and reflection
+     */
+    public static List<String> forTask(Task task) {
+        List<String> texts = new ArrayList<>();
+        texts.add(task.getTitle());
+        texts.add(task.getDescription());
+        texts.addAll(reflectionTexts(task.getReflection()));
+        return of(texts);
+    }
+
+    /**
+     * Keywords of a task note: its content
+     */
+    public static List<String> forNote(TaskNote note) {
+        return of(Collections.singletonList(note.getContent()));
+    }
+
+    /**
+     * Keywords of a project: title and description
+     */
+    public static List<String> forProject(Project project) {
+        return of(Arrays.asList(project.getTitle(), project.getDescription()));
+    }
+
+    /**
+     * Text fields of a reflection
+     */
+    public static List<String> reflectionTexts(Task.TaskReflection reflection) {
+        if (reflection == null) {
+            return List.of();
+        }
+        return Arrays.asList(reflection.getWhatWentWell(), reflection.getWhatCouldImprove(),
+            reflection.getLessonsLearned());
+    }
+
+    /**
+     * Keywords to look up for a search query, most selective (longest) first
+     */
+    public static List<String> queryTerms(String query) {
+        return words(query).stream()
+            .filter(word -> word.length() >= MIN_PREFIX)
+            .map(word -> word.length() > MAX_PREFIX ? word.substring(0, MAX_PREFIX) : word)
+            .distinct()
+            .sorted(Comparator.comparingInt(String::length).reversed())
+            .toList();
+    }
+}
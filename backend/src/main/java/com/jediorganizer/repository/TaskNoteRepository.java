@@ -0,0 +1,35 @@
+package com.jediorganizer.repository;
+
+import com.jediorganizer.model.TaskNote;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for task notes.
+ */
+@Repository
+public interface TaskNoteRepository extends MongoRepository<TaskNote, String> {
+
+    /**
+     * Keyset-paginated notes of a user's task, ordered by (createdAt, _id)
+     */
+    Window<TaskNote> findByTaskIdAndUserId(
+        String taskId, String userId, ScrollPosition position, Limit limit, Sort sort);
+
+    /**
+     * Find the notes of the given tasks, oldest first
+     */
+    List<TaskNote> findByUserIdAndTaskIdInOrderByCreatedAtAsc(String userId, Collection<String> taskIds);
+
+    /**
+     * Delete the notes of the given tasks
+     */
+    void deleteByTaskIdIn(Collection<String> taskIds);
+}
@@ -1,26 +1,48 @@
 package com.jediorganizer.repository;
 
+import com.jediorganizer.dto.TaskStatistics;
+import com.jediorganizer.dto.TaskSummary;
 import com.jediorganizer.model.Task;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Task entity operations.
  * Provides MongoDB data access for task management in Jedi Techniques.
  */
 @Repository
-public interface TaskRepository extends MongoRepository<Task, String> {
+public interface TaskRepository extends MongoRepository<Task, String>, TaskRepositoryCustom {
 
     /**
      * Find all tasks for a specific user
      */
     List<Task> findByUserId(String userId);
 
+    /**
+     * Stream all tasks for a user through a database cursor (caller must close the stream)
+     */
+    @Meta(cursorBatchSize = 500)
+    Stream<Task> streamByUserId(String userId);
+
+    /**
+     * Find which of the given tasks belong to the user, loading only their IDs
+     */
+    @Query(fields = "{ '_id': 1 }")
+    List<Task> findByIdInAndUserId(Collection<String> ids, String userId);
+
     /**
      * Find tasks by user and status
      */
@@ -102,9 +124,25 @@ public interface TaskRepository extends MongoRepository<Task, String> {
     long countByUserIdAndStatus(String userId, Task.TaskStatus status);
 
     /**
-     * Find tasks by title containing text (case-insensitive search)
+     * Find the ids of tasks whose own keywords and the keywords of their notes together carry
+     * every search keyword, most recently updated first. A task whose title has some of the words
+     * and one of its notes the rest matches; tasks found only through notes come last.
      */
-    List<Task> findByUserIdAndTitleContainingIgnoreCase(String userId, String title);
+    @Aggregation(pipeline = {
+        "{ $match: { 'userId': ?0, 'searchKeywords': { $in: ?1 } } }",
+        "{ $project: { '_id': 0, 'taskId': { $toString: '$_id' }, 'updatedAt': 1, " +
+            "'matched': { $setIntersection: ['$searchKeywords', ?1] } } }",
+        "{ $unionWith: { 'coll': 'task_notes', 'pipeline': [ " +
+            "{ $match: { 'userId': ?0, 'searchKeywords': { $in: ?1 } } }, " +
+            "{ $project: { '_id': 0, 'taskId': 1, 'matched': { $setIntersection: ['$searchKeywords', ?1] } } } ] } }",
+        "{ $group: { '_id': '$taskId', 'updatedAt': { $max: '$updatedAt' }, 'matched': { $push: '$matched' } } }",
+        "{ $match: { $expr: { $setIsSubset: [?1, " +
+            "{ $reduce: { 'input': '$matched', 'initialValue': [], 'in': { $setUnion: ['$$value', '$$this'] } } }] } } }",
+        "{ $sort: { 'updatedAt': -1 } }",
+        "{ $limit: ?2 }",
+        "{ $project: { '_id': 1 } }"
+    })
+    List<String> findIdsBySearchKeywordsWithNotes(String userId, List<String> keywords, int limit);
 
     /**
      * Find tasks created after specified date
@@ -130,4 +168,63 @@ public interface TaskRepository extends MongoRepository<Task, String> {
            "{ 'scheduledDate': null, 'status': { $in: ['TODO', 'IN_PROGRESS'] } } " +
            "] }")
     List<Task> findTodaysActionableTasks(String userId, LocalDate today);
+
+    /**
+     * Find overdue tasks as list summaries, soonest due first
+     */
+    @Query(fields = TaskSummary.FIELDS)
+    List<TaskSummary> findSummariesByUserIdAndDueDateBeforeAndStatusNotOrderByDueDateAsc(
+        String userId,
+        LocalDateTime date,
+        Task.TaskStatus status
+    );
+
+    // Keyset-paginated variants of the list queries as summaries, ordered by (sort field, _id)
+
+    @Query(fields = TaskSummary.FIELDS)
+    Window<TaskSummary> findSummariesByUserId(String userId, ScrollPosition position, Limit limit, Sort sort);
+
+    @Query(fields = TaskSummary.FIELDS)
+    Window<TaskSummary> findSummariesByUserIdAndStatus(
+        String userId, Task.TaskStatus status, ScrollPosition position, Limit limit, Sort sort);
+
+    @Query(fields = TaskSummary.FIELDS)
+    Window<TaskSummary> findSummariesByUserIdAndDueDateBeforeAndStatusNot(
+        String userId, LocalDateTime date, Task.TaskStatus status, ScrollPosition position, Limit limit, Sort sort);
+
+    @Query(fields = TaskSummary.FIELDS)
+    Window<TaskSummary> findSummariesByUserIdAndContext(
+        String userId, String context, ScrollPosition position, Limit limit, Sort sort);
+
+    @Query(fields = TaskSummary.FIELDS)
+    Window<TaskSummary> findSummariesByUserIdAndEnergyLessThanEqual(
+        String userId, int maxEnergy, ScrollPosition position, Limit limit, Sort sort);
+
+    @Query(fields = TaskSummary.FIELDS)
+    Window<TaskSummary> findSummariesByUserIdAndReflectionIsNotNull(
+        String userId, ScrollPosition position, Limit limit, Sort sort);
+
+    /**
+     * Compute all task statistics counters for a user in a single aggregation.
+     * Returns null when the user has no tasks.
+     */
+    @Aggregation(pipeline = {
+        "{ $match: { 'userId': ?0 } }",
+        "{ $group: { " +
+            "'_id': null, " +
+            "'totalTasks': { $sum: 1 }, " +
+            "'todoTasks': { $sum: { $cond: [ { $eq: ['$status', 'TODO'] }, 1, 0 ] } }, " +
+            "'inProgressTasks': { $sum: { $cond: [ { $eq: ['$status', 'IN_PROGRESS'] }, 1, 0 ] } }, " +
+            "'completedTasks': { $sum: { $cond: [ { $eq: ['$status', 'COMPLETED'] }, 1, 0 ] } }, " +
+            "'waitingTasks': { $sum: { $cond: [ { $eq: ['$status', 'WAITING'] }, 1, 0 ] } }, " +
+            "'todaysTasks': { $sum: { $cond: [ { $eq: ['$scheduledDate', ?1] }, 1, 0 ] } }, " +
+            "'overdueTasks': { $sum: { $cond: [ { $and: [ " +
+                "{ $gt: ['$dueDate', null] }, " +
+                "{ $lt: ['$dueDate', ?2] }, " +
+                "{ $ne: ['$status', 'COMPLETED'] } " +
+            "] }, 1, 0 ] } } " +
+        "} }",
+        "{ $project: { '_id': 0 } }"
+    })
+    TaskStatistics aggregateTaskStatistics(String userId, LocalDate today, LocalDateTime now);
 }
@@ -0,0 +1,59 @@
+package com.jediorganizer.repository;
+
+import com.jediorganizer.model.Task;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Task data access that needs direct MongoTemplate operations.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Atomically apply the update to the user's task and return the updated document.
+     * Empty when the task does not exist or belongs to another user.
+     */
+    Optional<Task> updateOwned(String taskId, String userId, UpdateDefinition update);
+
+    /**
+     * Atomically apply the update to the user's task only while it is in the given status.
+     * Empty when no such task matched.
+     */
+    Optional<Task> updateOwnedInStatus(String taskId, String userId, Task.TaskStatus status,
+                                       UpdateDefinition update);
+
+    /**
+     * Apply the writes to the user's tasks in a single unordered bulk write.
+     * Returns the error message of every failed write keyed by its index in the list.
+     */
+    Map<Integer, String> bulkWrite(String userId, List<TaskWrite> writes);
+
+    /**
+     * A single write of a bulk operation: an update, or a delete when no update is given
+     */
+    class TaskWrite {
+        private final String taskId;
+        private final UpdateDefinition update;
+
+        private TaskWrite(String taskId, UpdateDefinition update) {
+            this.taskId = taskId;
+            this.update = update;
+        }
+
+        public static TaskWrite update(String taskId, UpdateDefinition update) {
+            return new TaskWrite(taskId, update);
+        }
+
+        public static TaskWrite delete(String taskId) {
+            return new TaskWrite(taskId, null);
+        }
+
+        // Getters
+        public String getTaskId() { return taskId; }
+        public UpdateDefinition getUpdate() { return update; }
+        public boolean isDelete() { return update == null; }
+    }
+}
@@ -0,0 +1,74 @@
+package com.jediorganizer.repository;
+
+import com.jediorganizer.model.Task;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * MongoTemplate-backed implementation of {@link TaskRepositoryCustom}.
+ */
+class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    TaskRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<Task> updateOwned(String taskId, String userId, UpdateDefinition update) {
+        return findAndModify(ownedBy(taskId, userId), update);
+    }
+
+    @Override
+    public Optional<Task> updateOwnedInStatus(String taskId, String userId, Task.TaskStatus status,
+                                              UpdateDefinition update) {
+        Query query = ownedBy(taskId, userId).addCriteria(Criteria.where("status").is(status));
+        return findAndModify(query, update);
+    }
+
+    private Optional<Task> findAndModify(Query query, UpdateDefinition update) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+            query, update, FindAndModifyOptions.options().returnNew(true), Task.class));
+    }
+
+    @Override
+    public Map<Integer, String> bulkWrite(String userId, List<TaskWrite> writes) {
+        Map<Integer, String> failures = new HashMap<>();
+        if (writes.isEmpty()) {
+            return failures;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        for (TaskWrite write : writes) {
+            Query owned = ownedBy(write.getTaskId(), userId);
+            if (write.isDelete()) {
+                bulk.remove(owned);
+            } else {
+                bulk.updateOne(owned, write.getUpdate());
+            }
+        }
+
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            // Unordered: the remaining writes were still applied
+            e.getErrors().forEach(error -> failures.put(error.getIndex(), error.getMessage()));
+        }
+        return failures;
+    }
+
+    static Query ownedBy(String taskId, String userId) {
+        return Query.query(Criteria.where("id").is(taskId).and("userId").is(userId));
+    }
+}
@@ -0,0 +1,89 @@
+package com.jediorganizer.repository;
+
+import com.jediorganizer.model.Task;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Server-side task updates mirroring the Task business methods,
+ * so state transitions can be applied without loading the document.
+ * Every update bumps the optimistic locking version.
+ */
+public final class TaskUpdates {
+
+    private TaskUpdates() {
+    }
+
+    /**
+     * Move the task to IN_PROGRESS, keeping the original start time
+     */
+    public static UpdateDefinition start(LocalDateTime now) {
+        return transition(Task.TaskStatus.IN_PROGRESS, "startedAt", now);
+    }
+
+    /**
+     * Move the task to COMPLETED, keeping the original completion time
+     */
+    public static UpdateDefinition complete(LocalDateTime now) {
+        return transition(Task.TaskStatus.COMPLETED, "completedAt", now);
+    }
+
+    /**
+     * Schedule the task for a date
+     */
+    public static UpdateDefinition schedule(LocalDate scheduledDate, LocalDateTime now) {
+        return new Update()
+            .set("scheduledDate", scheduledDate)
+            .set("updatedAt", now)
+            .inc("version", 1);
+    }
+
+    /**
+     * Assign the task to a project, or detach it when the project ID is null
+     */
+    public static UpdateDefinition moveToProject(String projectId, LocalDateTime now) {
+        Update update = projectId != null
+            ? new Update().set("projectId", projectId)
+            : new Update().unset("projectId");
+        return update.set("updatedAt", now).inc("version", 1);
+    }
+
+    /**
+     * Adjust the note count of the task by the number of notes added or removed
+     */
+    public static UpdateDefinition countNotes(int delta, LocalDateTime now) {
+        return new Update()
+            .inc("noteCount", delta)
+            .set("updatedAt", now)
+            .inc("version", 1);
+    }
+
+    /**
+     * Record the reflection of a completed task
+     */
+    public static UpdateDefinition reflect(Task.TaskReflection reflection, LocalDateTime now) {
+        Update update = new Update()
+            .set("reflection", reflection)
+            .set("updatedAt", now)
+            .inc("version", 1);
+        // Keywords of a replaced reflection linger until the next full save; search ranking ignores them
+        update.addToSet(SearchKeywords.FIELD).each(SearchKeywords.of(SearchKeywords.reflectionTexts(reflection)).toArray());
+        return update;
+    }
+
+    // Pipeline update so the timestamp is only set the first time the status is entered
+    private static UpdateDefinition transition(Task.TaskStatus status, String timestampField, LocalDateTime now) {
+        return AggregationUpdate.update()
+            .set("status").toValue(status.name())
+            .set(timestampField).toValue(ConditionalOperators.ifNull(timestampField).then(now))
+            .set("updatedAt").toValue(now)
+            .set("version").toValue(ArithmeticOperators.Add.valueOf(ConditionalOperators.ifNull("version").then(0)).add(1));
+    }
+}
@@ -0,0 +1,20 @@
+package com.jediorganizer.repository;
+
+import com.jediorganizer.model.Tombstone;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for tombstones of deleted tasks and projects.
+ */
+@Repository
+public interface TombstoneRepository extends MongoRepository<Tombstone, String> {
+
+    /**
+     * Find a user's deletions after the given time
+     */
+    List<Tombstone> findByUserIdAndDeletedAtAfter(String userId, LocalDateTime since);
+}
@@ -43,4 +43,9 @@ public interface UserRepository extends MongoRepository<User, String> {
      * Find users created after specified date
      */
     java.util.List<User> findByCreatedAtAfter(LocalDateTime date);
+
+    /**
+     * Find users whose issued tokens were revoked after specified date
+     */
+    java.util.List<User> findByTokensRevokedAtAfter(LocalDateTime date);
 }
@@ -0,0 +1,103 @@
+package com.jediorganizer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jediorganizer.model.Task;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-process today view cache. Only consistent within one instance: with several
+ * replicas, writes served by another instance are visible after the TTL at the latest.
+ * Hit, miss and eviction counters are published as "cache.*" metrics with cache=todayView.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.today.provider", havingValue = "caffeine", matchIfMissing = true)
+public class CaffeineTodayViewCache implements TodayViewCache {
+
+    private final Cache<String, CachedView> views;
+    // Invalidation count per user, so a load racing an invalidation is not stored
+    private final Cache<String, Long> generations;
+
+    public CaffeineTodayViewCache(
+        MeterRegistry meterRegistry,
+        @Value("${app.cache.today.ttl:10m}") Duration ttl,
+        @Value("${app.cache.today.max-size:10000}") long maxSize
+    ) {
+        this.views = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, views, "todayView");
+    }
+
+    @Override
+    public List<Task> get(String userId, LocalDate day, Supplier<List<Task>> loader) {
+        CachedView cached = views.getIfPresent(userId);
+        if (cached != null && cached.getDay().equals(day)) {
+            return cached.getTasks();
+        }
+
+        // Loaded outside the cache so the query does not hold a map lock
+        Long generation = generations.getIfPresent(userId);
+        CachedView loaded = new CachedView(day, loader.get());
+        views.asMap().compute(userId, (key, current) ->
+            Objects.equals(generations.getIfPresent(key), generation) ? loaded : current);
+        return loaded.getTasks();
+    }
+
+    @Override
+    public void invalidate(String userId) {
+        generations.asMap().merge(userId, 1L, Long::sum);
+        views.invalidate(userId);
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.isScheduleChanged()) {
+            invalidate(event.getUserId());
+            return;
+        }
+        // Other changes only matter when they touch a task shown in the cached view
+        CachedView cached = views.asMap().get(event.getUserId());
+        if (cached != null && event.getTaskIds().stream().anyMatch(cached.getTaskIds()::contains)) {
+            invalidate(event.getUserId());
+        }
+    }
+
+    /**
+     * Cached view with the user-local day it was loaded for
+     */
+    private static class CachedView {
+        private final LocalDate day;
+        private final List<Task> tasks;
+        private final Set<String> taskIds;
+
+        CachedView(LocalDate day, List<Task> tasks) {
+            this.day = day;
+            this.tasks = List.copyOf(tasks);
+            this.taskIds = tasks.stream().map(Task::getId).collect(Collectors.toSet());
+        }
+
+        LocalDate getDay() { return day; }
+        List<Task> getTasks() { return tasks; }
+        Set<String> getTaskIds() { return taskIds; }
+    }
+}
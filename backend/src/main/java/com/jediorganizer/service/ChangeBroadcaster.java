@@ -0,0 +1,183 @@
+package com.jediorganizer.service;
+
+import com.jediorganizer.dto.ChangeNotification;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Registry of open Server-Sent Events streams per user and fan-out of change notifications.
+ * Idle streams hold no thread. Each stream has its own bounded queue of events, drained by a
+ * dispatcher thread while it has any, so a slow or stalled client only delays its own stream;
+ * a stream whose queue overflows is dropped and the client reconnects. Streams are pinged
+ * periodically so dead connections are detected and proxies don't close idle ones.
+ */
+@Component
+public class ChangeBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeBroadcaster.class);
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    // Platform threads: SseEmitter.send is synchronized, so a send blocked on a stalled client would
+    // pin the carrier of a virtual thread. Threads only exist while a stream has events to send.
+    private final ExecutorService dispatcher = Executors.newCachedThreadPool(
+        Thread.ofPlatform().name("change-push-", 0).daemon().factory());
+    private final long timeoutMillis;
+    private final int queueSize;
+
+    public ChangeBroadcaster(
+        MeterRegistry meterRegistry,
+        @Value("${app.push.timeout:30m}") Duration timeout,
+        @Value("${app.push.queue-size:32}") int queueSize
+    ) {
+        this.timeoutMillis = timeout.toMillis();
+        this.queueSize = Math.max(queueSize, 1);
+        Gauge.builder("push.connections", this, ChangeBroadcaster::connectionCount)
+            .description("Open change notification streams")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Open a change notification stream for a user
+     */
+    public SseEmitter subscribe(String userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter, queueSize);
+        subscribers.compute(userId, (key, set) -> {
+            Set<Subscriber> userSubscribers = set != null ? set : ConcurrentHashMap.newKeySet();
+            userSubscribers.add(subscriber);
+            return userSubscribers;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        enqueue(subscriber, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    /**
+     * Send a notification to every open stream of a user
+     */
+    public void publish(String userId, ChangeNotification notification) {
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null) {
+            return;
+        }
+        userSubscribers.forEach(subscriber -> enqueue(subscriber, SseEmitter.event()
+            .name(notification.getEntity().name().toLowerCase(Locale.ROOT))
+            .data(notification, MediaType.APPLICATION_JSON)));
+    }
+
+    // @Scheduled only parses milliseconds or ISO-8601 durations
+    @Scheduled(fixedDelayString = "${app.push.heartbeat:PT30S}")
+    public void heartbeat() {
+        subscribers.values().forEach(userSubscribers ->
+            userSubscribers.forEach(subscriber -> enqueue(subscriber, SseEmitter.event().comment("ping"))));
+    }
+
+    /**
+     * Number of open streams on this node
+     */
+    public int connectionCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.dropped) {
+            return;
+        }
+        if (!subscriber.events.offer(event)) {
+            // The client has not read the events queued so far; it fetches what it missed on reconnect
+            logger.debug("Dropping change stream of user {}: {} events pending", subscriber.userId, queueSize);
+            subscriber.dropped = true;
+            unsubscribe(subscriber);
+            subscriber.events.clear();
+            // Completing waits for the emitter's send lock, which the stalled send holds until the write times out
+            dispatcher.execute(() -> subscriber.emitter.completeWithError(
+                new IOException("Change stream client is not reading")));
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    // One drain per stream at a time, so its events are sent in order
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.dropped && (event = subscriber.events.poll()) != null) {
+                if (!send(subscriber, event)) {
+                    subscriber.events.clear();
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // An event queued after the last poll but before the flag was cleared found a drain running
+        } while (!subscriber.events.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the container may not report it until the next write
+            logger.debug("Dropping change stream of user {}: {}", subscriber.userId, e.getMessage());
+            unsubscribe(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (key, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(userSubscribers ->
+            userSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    /**
+     * Open stream with the events waiting to be sent on it
+     */
+    private static class Subscriber {
+        private final String userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> events;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean dropped;
+
+        Subscriber(String userId, SseEmitter emitter, int queueSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.events = new ArrayBlockingQueue<>(queueSize);
+        }
+    }
+}
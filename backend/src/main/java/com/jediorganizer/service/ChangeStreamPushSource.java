@@ -0,0 +1,215 @@
+package com.jediorganizer.service;
+
+import com.jediorganizer.dto.ChangeNotification;
+import com.mongodb.MongoException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListener;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds change notifications from MongoDB change streams, so every node sees the writes
+ * of all replicas. Requires a replica set. Deletions are read from inserts into the
+ * tombstones collection, whose documents still carry the owner of the deleted document.
+ */
+@Component
+@ConditionalOnProperty(name = "app.push.source", havingValue = "change-stream")
+public class ChangeStreamPushSource implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamPushSource.class);
+
+    private static final Set<String> SCHEDULE_FIELDS = Set.of("status", "scheduledDate");
+
+    // Only the owner and the names of updated fields are needed, not the documents
+    private static final Document[] WRITES = {
+        new Document("$match", new Document("operationType",
+            new Document("$in", List.of("insert", "update", "replace")))),
+        new Document("$project", new Document("operationType", 1)
+            .append("documentKey", 1)
+            .append("fullDocument.userId", 1)
+            .append("updateDescription.updatedFields", new Document("$cond", List.of(
+                new Document("$eq", List.of("$operationType", "update")),
+                // Keep the names of the updated fields, drop their values
+                new Document("$arrayToObject", new Document("$map", new Document()
+                    .append("input", new Document("$objectToArray", "$updateDescription.updatedFields"))
+                    .append("in", new Document("k", "$$this.k").append("v", 1)))),
+                "$$REMOVE"))))
+    };
+
+    private static final Document[] TOMBSTONE_INSERTS = {
+        new Document("$match", new Document("operationType", "insert"))
+    };
+
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private final MessageListenerContainer container;
+    private final ChangeBroadcaster broadcaster;
+    private final Duration retryDelay;
+    private final List<Watch> watches;
+    private ScheduledExecutorService retries;
+    private volatile boolean running;
+
+    public ChangeStreamPushSource(MongoTemplate mongoTemplate, ChangeBroadcaster broadcaster,
+                                  @Value("${app.push.change-stream.retry-delay:5s}") Duration retryDelay) {
+        this.container = new DefaultMessageListenerContainer(mongoTemplate,
+            new SimpleAsyncTaskExecutor("change-stream-"));
+        this.broadcaster = broadcaster;
+        this.retryDelay = retryDelay;
+        this.watches = List.of(
+            new Watch("tasks", WRITES, FullDocument.UPDATE_LOOKUP,
+                message -> onWrite(ChangeNotification.Entity.TASK, message)),
+            new Watch("projects", WRITES, FullDocument.UPDATE_LOOKUP,
+                message -> onWrite(ChangeNotification.Entity.PROJECT, message)),
+            new Watch("tombstones", TOMBSTONE_INSERTS, FullDocument.DEFAULT, this::onTombstone));
+    }
+
+    @Override
+    public void start() {
+        retries = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("change-stream-retry").daemon().factory());
+        running = true;
+        container.start();
+        watches.forEach(Watch::register);
+        logger.info("Pushing task and project changes from MongoDB change streams");
+    }
+
+    private void onWrite(ChangeNotification.Entity entity, Message<ChangeStreamDocument<Document>, Document> message) {
+        ChangeStreamDocument<Document> change = message.getRaw();
+        Document document = change.getFullDocument();
+        BsonValue id = change.getDocumentKey() != null ? change.getDocumentKey().get("_id") : null;
+        if (document == null || document.getString("userId") == null || id == null) {
+            // Deleted before the lookup; the tombstone insert reports it
+            return;
+        }
+
+        boolean created = "insert".equals(change.getOperationTypeString());
+        boolean scheduleChanged = created || "replace".equals(change.getOperationTypeString())
+            || updatedFieldNames(change).stream().anyMatch(SCHEDULE_FIELDS::contains);
+        broadcaster.publish(document.getString("userId"), new ChangeNotification(entity,
+            created ? ChangeNotification.ChangeType.CREATED : ChangeNotification.ChangeType.UPDATED,
+            List.of(id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue()),
+            entity == ChangeNotification.Entity.TASK && scheduleChanged));
+    }
+
+    private void onTombstone(Message<ChangeStreamDocument<Document>, Document> message) {
+        Document tombstone = message.getRaw().getFullDocument();
+        if (tombstone == null || tombstone.getString("userId") == null) {
+            return;
+        }
+        ChangeNotification.Entity entity = ChangeNotification.Entity.valueOf(tombstone.getString("entityType"));
+        broadcaster.publish(tombstone.getString("userId"), new ChangeNotification(entity,
+            ChangeNotification.ChangeType.DELETED, List.of(tombstone.getString("entityId")),
+            entity == ChangeNotification.Entity.TASK));
+    }
+
+    // Top-level names of the fields set by an update, e.g. "subtasks" for "subtasks.2"
+    private static List<String> updatedFieldNames(ChangeStreamDocument<Document> change) {
+        if (change.getUpdateDescription() == null || change.getUpdateDescription().getUpdatedFields() == null) {
+            return List.of();
+        }
+        return change.getUpdateDescription().getUpdatedFields().keySet().stream()
+            .map(name -> name.split("\\.")[0])
+            .toList();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        retries.shutdownNow();
+        container.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return container.isRunning();
+    }
+
+    /**
+     * Change stream of one collection. The container cancels a stream whose cursor fails, e.g. on a
+     * primary step-down, so it is registered again to resume after the last event it delivered.
+     */
+    private final class Watch {
+        private final String collection;
+        private final Document[] filter;
+        private final FullDocument fullDocument;
+        private final MessageListener<ChangeStreamDocument<Document>, Document> listener;
+        private volatile BsonValue resumeToken;
+        private volatile Subscription subscription;
+
+        Watch(String collection, Document[] filter, FullDocument fullDocument,
+              MessageListener<ChangeStreamDocument<Document>, Document> listener) {
+            this.collection = collection;
+            this.filter = filter;
+            this.fullDocument = fullDocument;
+            this.listener = listener;
+        }
+
+        void register() {
+            ChangeStreamRequest.ChangeStreamRequestBuilder<Document> request = ChangeStreamRequest
+                .<Document>builder(message -> {
+                    // Taken first, so an event the listener fails on is not delivered again
+                    resumeToken = message.getRaw().getResumeToken();
+                    listener.onMessage(message);
+                })
+                .collection(collection)
+                .filter(filter)
+                .fullDocumentLookup(fullDocument);
+            if (resumeToken != null) {
+                request.resumeAfter(resumeToken);
+            }
+            subscription = container.register(request.build(), Document.class, this::onError);
+        }
+
+        private void onError(Throwable e) {
+            if (!running) {
+                return;
+            }
+            if (isHistoryLost(e)) {
+                // The oplog no longer holds the last event: start over from now
+                logger.warn("Change stream on {} cannot resume, changes since its last event are not pushed",
+                    collection);
+                resumeToken = null;
+            }
+            logger.warn("Change stream on {} failed, resuming in {}: {}", collection, retryDelay, e.getMessage());
+            retries.schedule(this::resume, retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        private void resume() {
+            if (running) {
+                container.remove(subscription);
+                register();
+            }
+        }
+    }
+
+    private static boolean isHistoryLost(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException
+                    && mongoException.getCode() == CHANGE_STREAM_HISTORY_LOST) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,146 @@
+package com.jediorganizer.service;
+
+import com.jediorganizer.dto.CursorPage;
+import com.jediorganizer.dto.CursorPageRequest;
+import com.jediorganizer.exception.BusinessValidationException;
+import org.bson.Document;
+import org.bson.json.JsonParseException;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Translates opaque page cursors to keyset scroll positions and back.
+ * Pages are ordered by the sort field, with Spring Data appending {@code _id} as the
+ * keyset tie-breaker; the cursor carries the key values of the last returned document
+ * together with the sort it was issued for.
+ */
+@Component
+public class CursorPagination {
+
+    private static final Set<String> SORT_FIELDS = Set.of("createdAt", "updatedAt");
+
+    private final MongoConverter mongoConverter;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public CursorPagination(
+        MongoConverter mongoConverter,
+        @Value("${app.pagination.default-page-size:50}") int defaultPageSize,
+        @Value("${app.pagination.max-page-size:200}") int maxPageSize
+    ) {
+        this.mongoConverter = mongoConverter;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * Validate the request parameters and resolve the scroll position to continue from
+     */
+    public Scroll resolve(CursorPageRequest request) {
+        return resolve(request, SORT_FIELDS);
+    }
+
+    /**
+     * Validate the request parameters against the sort fields of the listed documents
+     * and resolve the scroll position to continue from
+     */
+    public Scroll resolve(CursorPageRequest request, Set<String> sortFields) {
+        String sortField = request.getSort() != null ? request.getSort() : "createdAt";
+        if (!sortFields.contains(sortField)) {
+            throw new BusinessValidationException("INVALID_SORT", "Unsupported sort field: " + sortField);
+        }
+        Sort.Direction direction = request.getDirection() != null ? request.getDirection() : Sort.Direction.ASC;
+
+        int pageSize = request.getLimit() != null ? request.getLimit() : defaultPageSize;
+        if (pageSize < 1) {
+            throw new BusinessValidationException("INVALID_LIMIT", "Page size must be positive");
+        }
+        pageSize = Math.min(pageSize, maxPageSize);
+
+        ScrollPosition position = request.getCursor() == null || request.getCursor().isBlank()
+            ? ScrollPosition.keyset()
+            : decode(request.getCursor(), sortField, direction);
+
+        return new Scroll(position, Limit.of(pageSize), Sort.by(direction, sortField), sortField, direction);
+    }
+
+    /**
+     * Wrap a window of results into a page carrying the cursor of the next page
+     */
+    public <T> CursorPage<T> toPage(Window<T> window, Scroll scroll) {
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = encode((KeysetScrollPosition) window.positionAt(window.size() - 1), scroll);
+        }
+        return new CursorPage<>(window.getContent(), nextCursor, window.hasNext());
+    }
+
+    private String encode(KeysetScrollPosition position, Scroll scroll) {
+        // Key values are entity property values; store them in their BSON form
+        Document keys = (Document) mongoConverter.convertToMongoType(position.getKeys());
+        Object id = keys.get("id");
+        if (id instanceof String stringId && ObjectId.isValid(stringId)) {
+            // Keyset values bypass id conversion, so compare against the stored ObjectId
+            keys.put("id", new ObjectId(stringId));
+        }
+        Document cursor = new Document("s", scroll.getSortField())
+            .append("d", scroll.getDirection().name())
+            .append("k", keys);
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(cursor.toJson().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ScrollPosition decode(String value, String sortField, Sort.Direction direction) {
+        Document cursor;
+        try {
+            cursor = Document.parse(new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException | JsonParseException e) {
+            throw new BusinessValidationException("INVALID_CURSOR", "Malformed page cursor", e);
+        }
+        if (!sortField.equals(cursor.getString("s")) || !direction.name().equals(cursor.getString("d"))) {
+            throw new BusinessValidationException("INVALID_CURSOR", "Page cursor was issued for a different sort order");
+        }
+        Document keys = cursor.get("k", Document.class);
+        if (keys == null || keys.isEmpty()) {
+            throw new BusinessValidationException("INVALID_CURSOR", "Malformed page cursor");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Resolved scroll parameters for a keyset query
+     */
+    public static class Scroll {
+        private final ScrollPosition position;
+        private final Limit limit;
+        private final Sort sort;
+        private final String sortField;
+        private final Sort.Direction direction;
+
+        public Scroll(ScrollPosition position, Limit limit, Sort sort, String sortField, Sort.Direction direction) {
+            this.position = position;
+            this.limit = limit;
+            this.sort = sort;
+            this.sortField = sortField;
+            this.direction = direction;
+        }
+
+        // Getters
+        public ScrollPosition getPosition() { return position; }
+        public Limit getLimit() { return limit; }
+        public Sort getSort() { return sort; }
+        public String getSortField() { return sortField; }
+        public Sort.Direction getDirection() { return direction; }
+    }
+}
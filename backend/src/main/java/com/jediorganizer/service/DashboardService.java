@@ -0,0 +1,58 @@
+package com.jediorganizer.service;
+
+import com.jediorganizer.dto.DashboardResponse;
+import com.jediorganizer.dto.DashboardResponse.Section;
+import com.jediorganizer.dto.ProjectStatistics;
+import com.jediorganizer.dto.TaskStatistics;
+import com.jediorganizer.dto.TaskSummary;
+import com.jediorganizer.model.Project;
+import com.jediorganizer.model.Task;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Service assembling the dashboard: only the requested sections are read, each with
+ * its own single query (today's tasks from the today view cache), all concurrently.
+ */
+@Service
+public class DashboardService {
+
+    private final TaskService taskService;
+    private final ProjectService projectService;
+    private final ParallelReads parallelReads;
+
+    public DashboardService(TaskService taskService, ProjectService projectService, ParallelReads parallelReads) {
+        this.taskService = taskService;
+        this.projectService = projectService;
+        this.parallelReads = parallelReads;
+    }
+
+    /**
+     * Get the requested dashboard sections of a user
+     */
+    public DashboardResponse getDashboard(String userId, Set<Section> sections) {
+        try (ParallelReads.Scope scope = parallelReads.open()) {
+            Supplier<List<Task>> today = forkIf(scope, sections.contains(Section.TODAY),
+                () -> taskService.getTodaysActionableTasks(userId));
+            Supplier<List<TaskSummary>> overdue = forkIf(scope, sections.contains(Section.OVERDUE),
+                () -> taskService.getOverdueTasks(userId));
+            Supplier<TaskStatistics> taskStats = forkIf(scope, sections.contains(Section.TASK_STATS),
+                () -> taskService.getTaskStatistics(userId));
+            Supplier<List<Project>> activeProjects = forkIf(scope, sections.contains(Section.ACTIVE_PROJECTS),
+                () -> projectService.getActiveProjects(userId));
+            Supplier<ProjectStatistics> projectStats = forkIf(scope,
+                sections.contains(Section.PROJECT_STATS), () -> projectService.getProjectStatistics(userId));
+            scope.join();
+            return new DashboardResponse(today.get(), overdue.get(), taskStats.get(), activeProjects.get(),
+                projectStats.get());
+        }
+    }
+
+    private static <T> Supplier<T> forkIf(ParallelReads.Scope scope, boolean requested, Callable<T> read) {
+        return requested ? scope.fork(read) : () -> null;
+    }
+}
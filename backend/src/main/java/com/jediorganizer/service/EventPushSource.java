@@ -0,0 +1,38 @@
+package com.jediorganizer.service;
+
+import com.jediorganizer.dto.ChangeNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Feeds change notifications from the application events of {@link TaskService} and
+ * {@link ProjectService}. Only sees writes served by this node, so use the change stream
+ * source when running several replicas.
+ */
+@Component
+@ConditionalOnProperty(name = "app.push.source", havingValue = "events", matchIfMissing = true)
+public class EventPushSource {
+
+    private final ChangeBroadcaster broadcaster;
+
+    public EventPushSource(ChangeBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        broadcaster.publish(event.getUserId(), new ChangeNotification(ChangeNotification.Entity.TASK,
+            ChangeNotification.ChangeType.valueOf(event.getChangeType().name()),
+            event.getTaskIds(), event.isScheduleChanged()));
+    }
+
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        broadcaster.publish(event.getUserId(), new ChangeNotification(ChangeNotification.Entity.PROJECT,
+            ChangeNotification.ChangeType.valueOf(event.getChangeType().name()),
+            List.of(event.getProjectId()), false));
+    }
+}
@@ -0,0 +1,51 @@
+package com.jediorganizer.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a stream of entities as newline-delimited JSON.
+ * Items are serialized one at a time straight to the output, so heap use
+ * does not depend on how many items the stream yields.
+ */
+@Component
+public class NdjsonExporter {
+
+    private final ObjectWriter writer;
+
+    public NdjsonExporter(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                // Flushing every item would push a small chunk per item through the response; flush once at the end
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Write all items and close the stream (and its database cursor)
+     */
+    public <T> void write(Stream<T> items, OutputStream out) throws IOException {
+        long written = 0;
+        try (items; SequenceWriter sequence = writer.writeValues(out)) {
+            Iterator<T> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                sequence.write(iterator.next());
+                written++;
+            }
+        }
+        if (written > 0) {
+            // The separator only goes between values; terminate the last line too
+            out.write('\n');
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,42 @@
+package com.jediorganizer.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Bounded retry of read-modify-write operations that lost an optimistic locking race.
+ * Only use it for operations that are safe to re-apply on top of a concurrent change,
+ * and re-read the document inside the operation so each attempt sees the latest version.
+ */
+@Component
+public class OptimisticRetry {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticRetry.class);
+
+    private final int maxAttempts;
+
+    public OptimisticRetry(@Value("${app.concurrency.max-attempts:3}") int maxAttempts) {
+        this.maxAttempts = Math.max(maxAttempts, 1);
+    }
+
+    /**
+     * Run the operation, retrying on optimistic locking failures until the attempts are exhausted
+     */
+    public <T> T execute(Supplier<T> operation) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return operation.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                logger.debug("Optimistic locking conflict, retrying (attempt {} of {})", attempt + 1, maxAttempts);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.jediorganizer.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent reads of one request concurrently on virtual threads, so the request
+ * takes as long as its slowest read instead of the sum of all of them.
+ * Reads are forked in a {@link Scope}: at most max-parallelism of them run at once, and all
+ * of them must finish before the scope's deadline. The first failure or the deadline cancels
+ * the reads that have not started yet. Reads already running are not interrupted, since that
+ * would close their pooled database connection; instead the MongoDB queries of a forked read are
+ * sent with the time left as maxTimeMS (see ReadDeadlineMongoTemplate), so the server stops
+ * them at the deadline. Scopes opened inside a forked read inherit the enclosing deadline.
+ */
+@Component
+public class ParallelReads {
+
+    private static final ThreadLocal<Long> CURRENT_DEADLINE = new ThreadLocal<>();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int maxParallelism;
+    private final Duration timeout;
+
+    public ParallelReads(
+        @Value("${app.parallel-reads.max-parallelism:4}") int maxParallelism,
+        @Value("${app.parallel-reads.timeout:5s}") Duration timeout
+    ) {
+        this.maxParallelism = Math.max(maxParallelism, 1);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Open a scope for the reads of one request
+     */
+    public Scope open() {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Long enclosing = CURRENT_DEADLINE.get();
+        return new Scope(enclosing != null && enclosing - deadline < 0 ? enclosing : deadline);
+    }
+
+    /**
+     * Time left until the deadline of the scope whose read runs on this thread; empty outside forked reads
+     */
+    public static Optional<Duration> remainingTime() {
+        Long deadline = CURRENT_DEADLINE.get();
+        return deadline != null ? Optional.of(Duration.ofNanos(Math.max(deadline - System.nanoTime(), 0)))
+            : Optional.empty();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Reads forked together; use with try-with-resources and call {@link #join()} before reading results
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final long deadline;
+        private final Semaphore permits = new Semaphore(maxParallelism);
+        private final List<Future<?>> forks = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private volatile boolean cancelled;
+
+        private Scope(long deadline) {
+            this.deadline = deadline;
+        }
+
+        /**
+         * Start a read; its result is available from the returned supplier after {@link #join()}
+         */
+        public <T> Supplier<T> fork(Callable<T> read) {
+            Future<T> future = executor.submit(() -> {
+                permits.acquire();
+                CURRENT_DEADLINE.set(deadline);
+                try {
+                    // Reads still waiting for a permit when the scope was cancelled are skipped
+                    if (cancelled) {
+                        throw new CancellationException("Parallel reads were cancelled");
+                    }
+                    return read.call();
+                } catch (Exception e) {
+                    // Fail fast: the other reads are cancelled without waiting for join to reach this one
+                    if (failure.compareAndSet(null, e)) {
+                        cancel();
+                    }
+                    throw e;
+                } finally {
+                    CURRENT_DEADLINE.remove();
+                    permits.release();
+                }
+            });
+            forks.add(future);
+            return future::resultNow;
+        }
+
+        /**
+         * Wait for all forked reads, rethrowing the first failure.
+         * Throws QueryTimeoutException when the deadline passes first.
+         */
+        public void join() {
+            try {
+                for (Future<?> fork : forks) {
+                    fork.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                }
+            } catch (TimeoutException e) {
+                close();
+                throw new QueryTimeoutException("Parallel reads did not finish within their deadline", e);
+            } catch (ExecutionException | CancellationException e) {
+                close();
+                Throwable cause = failure.get() != null ? failure.get() : e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException("Parallel read failed", cause);
+            } catch (InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for parallel reads", e);
+            }
+        }
+
+        /**
+         * Cancel the reads that have not started; running reads end by their own maxTimeMS
+         */
+        @Override
+        public void close() {
+            cancel();
+        }
+
+        private void cancel() {
+            cancelled = true;
+            forks.forEach(fork -> fork.cancel(false));
+        }
+    }
+}
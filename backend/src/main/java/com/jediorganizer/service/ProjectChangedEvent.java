@@ -0,0 +1,33 @@
+package com.jediorganizer.service;
+
+/**
+ * Application event published after a project of a user was created, changed or deleted.
+ */
+public class ProjectChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final String userId;
+    private final String projectId;
+    private final ChangeType changeType;
+
+    public ProjectChangedEvent(String userId, String projectId, ChangeType changeType) {
+        this.userId = userId;
+        this.projectId = projectId;
+        this.changeType = changeType;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+}
@@ -1,13 +1,22 @@
 package com.jediorganizer.service;
 
+import com.jediorganizer.dto.ProjectProgress;
+import com.jediorganizer.dto.ProjectStatistics;
+import com.jediorganizer.exception.ResourceNotFoundException;
+import com.jediorganizer.exception.VersionConflictException;
 import com.jediorganizer.model.Project;
 import com.jediorganizer.repository.ProjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Service class for Project entity business logic.
@@ -17,10 +26,22 @@ import java.util.Optional;
 public class ProjectService {
     
     private final ProjectRepository projectRepository;
+    private final NdjsonExporter ndjsonExporter;
+    private final OptimisticRetry optimisticRetry;
+    private final SearchSettings searchSettings;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ParallelReads parallelReads;
     
     @Autowired
-    public ProjectService(ProjectRepository projectRepository) {
+    public ProjectService(ProjectRepository projectRepository, NdjsonExporter ndjsonExporter,
+                          OptimisticRetry optimisticRetry, SearchSettings searchSettings,
+                          ApplicationEventPublisher eventPublisher, ParallelReads parallelReads) {
         this.projectRepository = projectRepository;
+        this.ndjsonExporter = ndjsonExporter;
+        this.optimisticRetry = optimisticRetry;
+        this.searchSettings = searchSettings;
+        this.eventPublisher = eventPublisher;
+        this.parallelReads = parallelReads;
     }
     
     /**
@@ -30,7 +51,9 @@ public class ProjectService {
         if (project.getUserId() == null) {
             throw new IllegalArgumentException("Project must have a user ID");
         }
-        return projectRepository.save(project);
+        // A client-supplied version would turn the insert into a conditional update
+        project.setVersion(null);
+        return publishChanged(projectRepository.save(project), ProjectChangedEvent.ChangeType.CREATED);
     }
     
     /**
@@ -58,6 +81,13 @@ public class ProjectService {
         return projectRepository.findByUserId(userId);
     }
     
+    /**
+     * Export all projects of a user as newline-delimited JSON
+     */
+    public void exportProjects(String userId, OutputStream out) throws IOException {
+        ndjsonExporter.write(projectRepository.streamByUserId(userId), out);
+    }
+    
     /**
      * Get active projects for a user
      */
@@ -97,20 +127,51 @@ public class ProjectService {
         if (project.getId() == null) {
             throw new IllegalArgumentException("Project ID cannot be null for update");
         }
-        return projectRepository.save(project);
+        return publishChanged(projectRepository.save(project), ProjectChangedEvent.ChangeType.UPDATED);
     }
     
     /**
-     * Update project status
+     * Replace a user's project with a version-checked write.
+     * With an expected version (from If-Match) a change since that version fails the update (412);
+     * without one a change between reading and writing the project fails it (409), so a
+     * concurrent change is never silently overwritten.
      */
-    public Project updateProjectStatus(String projectId, String userId, Project.ProjectStatus status) {
-        Optional<Project> projectOpt = findByIdAndUserId(projectId, userId);
-        if (projectOpt.isPresent()) {
-            Project project = projectOpt.get();
-            project.setStatus(status);
-            return projectRepository.save(project);
+    public Project replaceProject(String projectId, String userId, Long expectedVersion, Project replacement) {
+        if (expectedVersion == null) {
+            return applyReplacement(projectId, userId, null, replacement);
+        }
+        try {
+            return applyReplacement(projectId, userId, expectedVersion, replacement);
+        } catch (OptimisticLockingFailureException e) {
+            throw new VersionConflictException("Project", projectId);
+        }
+    }
+    
+    private Project applyReplacement(String projectId, String userId, Long expectedVersion, Project replacement) {
+        Project current = findByIdAndUserId(projectId, userId)
+            .orElseThrow(() -> new ResourceNotFoundException("Project", projectId));
+        if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+            throw new VersionConflictException("Project", projectId);
         }
-        throw new IllegalArgumentException("Project not found or access denied");
+        replacement.setId(projectId);
+        replacement.setUserId(userId);
+        replacement.setVersion(current.getVersion());
+        return publishChanged(projectRepository.save(replacement), ProjectChangedEvent.ChangeType.UPDATED);
+    }
+    
+    /**
+     * Update project status, retried on concurrent modification since setting a status is idempotent
+     */
+    public Project updateProjectStatus(String projectId, String userId, Project.ProjectStatus status) {
+        return optimisticRetry.execute(() -> {
+            Optional<Project> projectOpt = findByIdAndUserId(projectId, userId);
+            if (projectOpt.isPresent()) {
+                Project project = projectOpt.get();
+                project.setStatus(status);
+                return publishChanged(projectRepository.save(project), ProjectChangedEvent.ChangeType.UPDATED);
+            }
+            throw new IllegalArgumentException("Project not found or access denied");
+        });
     }
     
     /**
@@ -142,10 +203,15 @@ public class ProjectService {
     }
     
     /**
-     * Search projects by title
+     * Search projects by word prefixes over title and description, ranked by relevance
      */
-    public List<Project> searchProjectsByTitle(String userId, String searchTerm) {
-        return projectRepository.findByUserIdAndTitleContainingIgnoreCase(userId, searchTerm);
+    public List<Project> searchProjects(String userId, String query, int limit) {
+        List<String> terms = searchSettings.queryTerms(query);
+        List<Project> candidates = projectRepository.findBySearchKeywords(userId, terms, searchSettings.candidateLimit());
+        return SearchRanking.rank(candidates, terms, project -> List.of(
+            new SearchRanking.Field(project.getTitle(), 3),
+            new SearchRanking.Field(project.getDescription(), 1)
+        ), searchSettings.resultLimit(limit));
     }
     
     /**
@@ -165,24 +231,34 @@ public class ProjectService {
     }
     
     /**
-     * Get project statistics for a user
+     * Get project statistics for a user (single aggregation round-trip)
      */
     public ProjectStatistics getProjectStatistics(String userId) {
-        long totalProjects = projectRepository.findByUserId(userId).size();
-        long activeProjects = projectRepository.countByUserIdAndStatus(userId, Project.ProjectStatus.ACTIVE);
-        long completedProjects = projectRepository.countByUserIdAndStatus(userId, Project.ProjectStatus.COMPLETED);
-        long onHoldProjects = projectRepository.countByUserIdAndStatus(userId, Project.ProjectStatus.ON_HOLD);
-        long archivedProjects = projectRepository.countByUserIdAndStatus(userId, Project.ProjectStatus.ARCHIVED);
-        
-        List<Project> overdueProjects = getOverdueProjects(userId);
-        List<Project> highPriorityProjects = getHighPriorityProjects(userId);
-        
-        return new ProjectStatistics(
-            totalProjects, activeProjects, completedProjects, onHoldProjects, archivedProjects,
-            overdueProjects.size(), highPriorityProjects.size()
-        );
+        return getProjectStatistics(userId, false);
     }
-    
+
+    /**
+     * Get project statistics, optionally with per-project task counts and completion ratios
+     */
+    public ProjectStatistics getProjectStatistics(String userId, boolean includeProgress) {
+        if (!includeProgress) {
+            return projectStatistics(userId);
+        }
+        // Independent aggregations: run them side by side
+        try (ParallelReads.Scope scope = parallelReads.open()) {
+            Supplier<ProjectStatistics> statistics = scope.fork(() -> projectStatistics(userId));
+            Supplier<List<ProjectProgress>> progress = scope.fork(() -> projectRepository.aggregateProjectProgress(userId));
+            scope.join();
+            statistics.get().setProjectProgress(progress.get());
+            return statistics.get();
+        }
+    }
+
+    private ProjectStatistics projectStatistics(String userId) {
+        ProjectStatistics statistics = projectRepository.aggregateProjectStatistics(userId, LocalDateTime.now());
+        return statistics != null ? statistics : new ProjectStatistics(0, 0, 0, 0, 0, 0, 0);
+    }
+
     /**
      * Delete project (use with caution)
      */
@@ -190,42 +266,18 @@ public class ProjectService {
         Optional<Project> project = findByIdAndUserId(projectId, userId);
         if (project.isPresent()) {
             projectRepository.deleteById(projectId);
+            eventPublisher.publishEvent(
+                new ProjectChangedEvent(userId, projectId, ProjectChangedEvent.ChangeType.DELETED));
         } else {
             throw new IllegalArgumentException("Project not found or access denied");
         }
     }
     
     /**
-     * Project statistics data class
-     */
-    public static class ProjectStatistics {
-        private final long totalProjects;
-        private final long activeProjects;
-        private final long completedProjects;
-        private final long onHoldProjects;
-        private final long archivedProjects;
-        private final long overdueProjects;
-        private final long highPriorityProjects;
-        
-        public ProjectStatistics(long totalProjects, long activeProjects, long completedProjects,
-                               long onHoldProjects, long archivedProjects, long overdueProjects,
-                               long highPriorityProjects) {
-            this.totalProjects = totalProjects;
-            this.activeProjects = activeProjects;
-            this.completedProjects = completedProjects;
-            this.onHoldProjects = onHoldProjects;
-            this.archivedProjects = archivedProjects;
-            this.overdueProjects = overdueProjects;
-            this.highPriorityProjects = highPriorityProjects;
-        }
-        
-        // Getters
-        public long getTotalProjects() { return totalProjects; }
-        public long getActiveProjects() { return activeProjects; }
-        public long getCompletedProjects() { return completedProjects; }
-        public long getOnHoldProjects() { return onHoldProjects; }
-        public long getArchivedProjects() { return archivedProjects; }
-        public long getOverdueProjects() { return overdueProjects; }
-        public long getHighPriorityProjects() { return highPriorityProjects; }
+     * Notify listeners (e.g. delta sync) that a project changed
+     */
+    private Project publishChanged(Project project, ProjectChangedEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new ProjectChangedEvent(project.getUserId(), project.getId(), changeType));
+        return project;
     }
 }
@@ -0,0 +1,157 @@
+package com.jediorganizer.service;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jediorganizer.model.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Today view cache in Redis (or a protocol-compatible store), shared by all replicas.
+ * Each user has one key holding the view as JSON together with its day, and a generation
+ * counter bumped on every invalidation. Redis errors fall back to the loader.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.today.provider", havingValue = "redis")
+public class RedisTodayViewCache implements TodayViewCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisTodayViewCache.class);
+
+    private static final String KEY_PREFIX = "today-view:";
+
+    // Store the view only if no invalidation happened since the generation was read
+    private static final RedisScript<Long> PUT_IF_CURRENT = new DefaultRedisScript<>("""
+        if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+        end
+        return 0
+        """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public RedisTodayViewCache(
+        StringRedisTemplate redis,
+        ObjectMapper objectMapper,
+        @Value("${app.cache.today.ttl:10m}") Duration ttl
+    ) {
+        this.redis = redis;
+        // Store the persistent fields of the tasks: setters have side effects such as touching updatedAt
+        this.objectMapper = objectMapper.copy()
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.ttl = ttl;
+    }
+
+    @Override
+    public List<Task> get(String userId, LocalDate day, Supplier<List<Task>> loader) {
+        String generation;
+        try {
+            CachedView cached = read(redis.opsForValue().get(viewKey(userId)));
+            if (cached != null && day.equals(cached.day)) {
+                return cached.tasks;
+            }
+            generation = Objects.requireNonNullElse(redis.opsForValue().get(generationKey(userId)), "0");
+        } catch (DataAccessException | JsonProcessingException e) {
+            logger.warn("Today view cache unavailable for user {}: {}", userId, e.getMessage());
+            return loader.get();
+        }
+
+        List<Task> tasks = loader.get();
+        try {
+            redis.execute(PUT_IF_CURRENT, List.of(viewKey(userId), generationKey(userId)),
+                generation, objectMapper.writeValueAsString(new CachedView(day, tasks)),
+                String.valueOf(ttl.toMillis()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            logger.warn("Could not cache the today view of user {}: {}", userId, e.getMessage());
+        }
+        return tasks;
+    }
+
+    @Override
+    public void invalidate(String userId) {
+        try {
+            redis.opsForValue().increment(generationKey(userId));
+            redis.expire(generationKey(userId), ttl);
+            redis.delete(viewKey(userId));
+        } catch (DataAccessException e) {
+            // The entry expires after the TTL at the latest
+            logger.warn("Could not invalidate the today view of user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.isScheduleChanged() || containsAny(event.getUserId(), event.getTaskIds())) {
+            invalidate(event.getUserId());
+        }
+    }
+
+    // Other changes only matter when they touch a task shown in the cached view
+    private boolean containsAny(String userId, List<String> taskIds) {
+        try {
+            String json = redis.opsForValue().get(viewKey(userId));
+            if (json == null) {
+                return false;
+            }
+            for (JsonNode task : objectMapper.readTree(json).path("tasks")) {
+                if (taskIds.contains(task.path("id").asText())) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (DataAccessException | JsonProcessingException e) {
+            return true;
+        }
+    }
+
+    private CachedView read(String json) throws JsonProcessingException {
+        return json != null ? objectMapper.readValue(json, CachedView.class) : null;
+    }
+
+    private static String viewKey(String userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static String generationKey(String userId) {
+        return KEY_PREFIX + userId + ":generation";
+    }
+
+    /**
+     * Stored view with the user-local day it was loaded for
+     */
+    private static class CachedView {
+        private LocalDate day;
+        private List<Task> tasks = new ArrayList<>();
+
+        CachedView() {
+        }
+
+        CachedView(LocalDate day, List<Task> tasks) {
+            this.day = day;
+            this.tasks = tasks;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.jediorganizer.service;
+
+import com.jediorganizer.repository.SearchKeywords;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Relevance ranking of keyword search candidates.
+ * Every query term must match the start of a word in some field; a whole-word match
+ * scores twice a prefix match, multiplied by the weight of the field it was found in.
+ */
+final class SearchRanking {
+
+    private SearchRanking() {
+    }
+
+    /**
+     * Rank the candidates by relevance, dropping those that do not match every term
+     */
+    static <T> List<T> rank(List<T> candidates, List<String> terms, Function<T, List<Field>> fields, int limit) {
+        List<Scored<T>> scored = new ArrayList<>();
+        for (T candidate : candidates) {
+            List<Field> candidateFields = fields.apply(candidate);
+            double score = 0;
+            for (String term : terms) {
+                double termScore = termScore(term, candidateFields);
+                if (termScore == 0) {
+                    // Stale keyword, e.g. of a replaced reflection
+                    score = 0;
+                    break;
+                }
+                score += termScore;
+            }
+            if (score > 0) {
+                scored.add(new Scored<>(candidate, score));
+            }
+        }
+        return scored.stream()
+            .sorted(Comparator.comparingDouble((Scored<T> s) -> s.score).reversed())
+            .limit(limit)
+            .map(s -> s.item)
+            .toList();
+    }
+
+    private static double termScore(String term, List<Field> fields) {
+        double best = 0;
+        for (Field field : fields) {
+            for (String word : SearchKeywords.words(field.text)) {
+                // Query terms are capped at the longest stored prefix, so compare on that prefix too
+                if (word.startsWith(term)) {
+                    boolean wholeWord = word.length() == term.length()
+                        || (term.length() == SearchKeywords.MAX_PREFIX);
+                    best = Math.max(best, field.weight * (wholeWord ? 2 : 1));
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Text of a searchable field with its relevance weight
+     */
+    static class Field {
+        private final String text;
+        private final double weight;
+
+        Field(String text, double weight) {
+            this.text = text;
+            this.weight = weight;
+        }
+    }
+
+    private static class Scored<T> {
+        private final T item;
+        private final double score;
+
+        Scored(T item, double score) {
+            this.item = item;
+            this.score = score;
+        }
+    }
+}
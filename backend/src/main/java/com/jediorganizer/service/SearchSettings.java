@@ -0,0 +1,56 @@
+package com.jediorganizer.service;
+
+import com.jediorganizer.exception.BusinessValidationException;
+import com.jediorganizer.repository.SearchKeywords;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Query validation and result limits shared by task and project search.
+ */
+@Component
+public class SearchSettings {
+
+    private final int maxCandidates;
+    private final int maxResults;
+
+    public SearchSettings(
+        @Value("${app.search.max-candidates:1000}") int maxCandidates,
+        @Value("${app.search.max-results:100}") int maxResults
+    ) {
+        this.maxCandidates = maxCandidates;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Keywords to look up for a query; rejects queries without a searchable word
+     */
+    public List<String> queryTerms(String query) {
+        List<String> terms = SearchKeywords.queryTerms(query);
+        if (terms.isEmpty()) {
+            throw new BusinessValidationException("INVALID_SEARCH",
+                "Search query must contain a word of at least " + SearchKeywords.MIN_PREFIX + " characters");
+        }
+        return terms;
+    }
+
+    /**
+     * Number of matching documents loaded for ranking
+     */
+    public Limit candidateLimit() {
+        return Limit.of(maxCandidates);
+    }
+
+    /**
+     * Number of ranked results to return, capped by the server maximum
+     */
+    public int resultLimit(int requested) {
+        if (requested < 1) {
+            throw new BusinessValidationException("INVALID_LIMIT", "Result limit must be positive");
+        }
+        return Math.min(requested, maxResults);
+    }
+}
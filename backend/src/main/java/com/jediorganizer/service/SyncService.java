@@ -0,0 +1,106 @@
+package com.jediorganizer.service;
+
+import com.jediorganizer.dto.SyncResponse;
+import com.jediorganizer.exception.BusinessValidationException;
+import com.jediorganizer.model.Tombstone;
+import com.jediorganizer.repository.ProjectRepository;
+import com.jediorganizer.repository.TaskRepository;
+import com.jediorganizer.repository.TombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Delta sync of a user's tasks and projects based on their updatedAt timestamps,
+ * with tombstones recorded for deletions.
+ * A sync token holds the time the previous sync started. Changes are returned from
+ * slightly before that time, so writes still in flight or stamped by a node with a
+ * lagging clock are not missed; clients apply changes by ID, so repeats are harmless.
+ */
+@Service
+public class SyncService {
+
+    private static final String TOKEN_VERSION = "1:";
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final Clock clock;
+    private final Duration overlap;
+
+    public SyncService(TaskRepository taskRepository, ProjectRepository projectRepository,
+                       TombstoneRepository tombstoneRepository, Clock clock,
+                       @Value("${app.sync.overlap:5s}") Duration overlap) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.clock = clock;
+        this.overlap = overlap;
+    }
+
+    /**
+     * Get the changes since a sync token, or a full snapshot without one.
+     * Tokens older than the tombstone retention also get a full snapshot.
+     */
+    public SyncResponse sync(String userId, String since) {
+        Instant started = clock.instant();
+        String nextToken = encode(started);
+
+        Instant from = since != null ? decode(since).minus(overlap) : null;
+        if (from == null || from.isBefore(started.minus(Tombstone.RETENTION))) {
+            return new SyncResponse(true, taskRepository.findByUserId(userId),
+                projectRepository.findByUserId(userId), List.of(), nextToken);
+        }
+
+        LocalDateTime fromTime = LocalDateTime.ofInstant(from, clock.getZone());
+        List<SyncResponse.Deletion> deletions = tombstoneRepository.findByUserIdAndDeletedAtAfter(userId, fromTime)
+            .stream()
+            .map(t -> new SyncResponse.Deletion(t.getEntityType(), t.getEntityId(), t.getDeletedAt()))
+            .toList();
+        return new SyncResponse(false, taskRepository.findByUserIdAndUpdatedAtAfter(userId, fromTime),
+            projectRepository.findByUserIdAndUpdatedAtAfter(userId, fromTime), deletions, nextToken);
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getChangeType() == TaskChangedEvent.ChangeType.DELETED) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            tombstoneRepository.saveAll(event.getTaskIds().stream()
+                .map(taskId -> new Tombstone(event.getUserId(), Tombstone.EntityType.TASK, taskId, now))
+                .toList());
+        }
+    }
+
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getChangeType() == ProjectChangedEvent.ChangeType.DELETED) {
+            tombstoneRepository.save(new Tombstone(event.getUserId(), Tombstone.EntityType.PROJECT,
+                event.getProjectId(), LocalDateTime.now(clock)));
+        }
+    }
+
+    private static String encode(Instant time) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((TOKEN_VERSION + time.toEpochMilli()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Instant decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (value.startsWith(TOKEN_VERSION)) {
+                return Instant.ofEpochMilli(Long.parseLong(value.substring(TOKEN_VERSION.length())));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new BusinessValidationException("INVALID_SYNC_TOKEN", "Malformed sync token", e);
+        }
+        throw new BusinessValidationException("INVALID_SYNC_TOKEN", "Malformed sync token");
+    }
+}
@@ -0,0 +1,45 @@
+package com.jediorganizer.service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Application event published after tasks of a user were created, changed or deleted.
+ * scheduleChanged is set when the write may have changed the status or scheduled date
+ * of the tasks, i.e. which tasks belong to the "today" view.
+ */
+public class TaskChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final String userId;
+    private final List<String> taskIds;
+    private final ChangeType changeType;
+    private final boolean scheduleChanged;
+
+    public TaskChangedEvent(String userId, Collection<String> taskIds, ChangeType changeType,
+                            boolean scheduleChanged) {
+        this.userId = userId;
+        this.taskIds = List.copyOf(taskIds);
+        this.changeType = changeType;
+        this.scheduleChanged = scheduleChanged;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public List<String> getTaskIds() {
+        return taskIds;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public boolean isScheduleChanged() {
+        return scheduleChanged;
+    }
+}
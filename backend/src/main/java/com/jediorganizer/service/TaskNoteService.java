@@ -0,0 +1,77 @@
+package com.jediorganizer.service;
+
+import com.jediorganizer.dto.CursorPage;
+import com.jediorganizer.dto.CursorPageRequest;
+import com.jediorganizer.model.Task;
+import com.jediorganizer.model.TaskNote;
+import com.jediorganizer.repository.TaskNoteRepository;
+import com.jediorganizer.repository.TaskRepository;
+import com.jediorganizer.repository.TaskUpdates;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service for task notes, which live in their own collection.
+ * Adding a note inserts it and bumps the note count of the task; notes are never rewritten.
+ */
+@Service
+public class TaskNoteService {
+
+    private static final Set<String> SORT_FIELDS = Set.of("createdAt");
+
+    private final TaskNoteRepository taskNoteRepository;
+    private final TaskRepository taskRepository;
+    private final CursorPagination cursorPagination;
+    private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskNoteService(TaskNoteRepository taskNoteRepository, TaskRepository taskRepository,
+                           CursorPagination cursorPagination, Clock clock,
+                           ApplicationEventPublisher eventPublisher) {
+        this.taskNoteRepository = taskNoteRepository;
+        this.taskRepository = taskRepository;
+        this.cursorPagination = cursorPagination;
+        this.clock = clock;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Add note to a user's task, returning the task with its new note count
+     */
+    public Task addNote(String taskId, String userId, String content) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Task task = taskRepository.updateOwned(taskId, userId, TaskUpdates.countNotes(1, now))
+            .orElseThrow(() -> new IllegalArgumentException("Task not found or access denied"));
+        try {
+            taskNoteRepository.insert(new TaskNote(taskId, userId, content, now));
+        } catch (RuntimeException e) {
+            taskRepository.updateOwned(taskId, userId, TaskUpdates.countNotes(-1, now));
+            throw e;
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(
+            userId, List.of(taskId), TaskChangedEvent.ChangeType.UPDATED, false));
+        return task;
+    }
+
+    /**
+     * Get a page of the notes of a user's task, oldest first by default
+     */
+    public CursorPage<TaskNote> getNotes(String taskId, String userId, CursorPageRequest pageRequest) {
+        CursorPagination.Scroll scroll = cursorPagination.resolve(pageRequest, SORT_FIELDS);
+        return cursorPagination.toPage(taskNoteRepository.findByTaskIdAndUserId(
+            taskId, userId, scroll.getPosition(), scroll.getLimit(), scroll.getSort()), scroll);
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getChangeType() == TaskChangedEvent.ChangeType.DELETED) {
+            taskNoteRepository.deleteByTaskIdIn(event.getTaskIds());
+        }
+    }
+}
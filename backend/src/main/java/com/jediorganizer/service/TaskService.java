@@ -1,15 +1,51 @@
 package com.jediorganizer.service;
 
+import com.jediorganizer.dto.BulkTaskRequest;
+import com.jediorganizer.dto.BulkTaskResponse;
+import com.jediorganizer.dto.CursorPage;
+import com.jediorganizer.dto.CursorPageRequest;
+import com.jediorganizer.dto.TaskExport;
+import com.jediorganizer.dto.TaskStatistics;
+import com.jediorganizer.dto.TaskSummary;
 import com.jediorganizer.exception.BusinessValidationException;
 import com.jediorganizer.exception.ResourceNotFoundException;
+import com.jediorganizer.exception.VersionConflictException;
+import com.jediorganizer.model.Project;
 import com.jediorganizer.model.Task;
+import com.jediorganizer.model.TaskNote;
+import com.jediorganizer.repository.ProjectRepository;
+import com.jediorganizer.repository.SearchKeywords;
+import com.jediorganizer.repository.TaskNoteRepository;
 import com.jediorganizer.repository.TaskRepository;
+import com.jediorganizer.repository.TaskRepositoryCustom.TaskWrite;
+import com.jediorganizer.repository.TaskUpdates;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Service class for Task entity business logic.
@@ -18,10 +54,38 @@ import java.util.Optional;
 @Service
 public class TaskService {
 
-    private final TaskRepository taskRepository;
+    private static final int EXPORT_BATCH_SIZE = 100;
 
-    public TaskService(TaskRepository taskRepository) {
+    private final TaskRepository taskRepository;
+    private final TaskNoteRepository taskNoteRepository;
+    private final ProjectRepository projectRepository;
+    private final CursorPagination cursorPagination;
+    private final NdjsonExporter ndjsonExporter;
+    private final SearchSettings searchSettings;
+    private final TodayViewCache todayViewCache;
+    private final UserTimeZones userTimeZones;
+    private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxBulkOperations;
+
+    public TaskService(TaskRepository taskRepository, TaskNoteRepository taskNoteRepository,
+                       ProjectRepository projectRepository,
+                       CursorPagination cursorPagination, NdjsonExporter ndjsonExporter,
+                       SearchSettings searchSettings,
+                       TodayViewCache todayViewCache, UserTimeZones userTimeZones, Clock clock,
+                       ApplicationEventPublisher eventPublisher,
+                       @Value("${app.tasks.bulk.max-operations:500}") int maxBulkOperations) {
         this.taskRepository = taskRepository;
+        this.taskNoteRepository = taskNoteRepository;
+        this.projectRepository = projectRepository;
+        this.cursorPagination = cursorPagination;
+        this.ndjsonExporter = ndjsonExporter;
+        this.searchSettings = searchSettings;
+        this.todayViewCache = todayViewCache;
+        this.userTimeZones = userTimeZones;
+        this.clock = clock;
+        this.eventPublisher = eventPublisher;
+        this.maxBulkOperations = maxBulkOperations;
     }
 
     /**
@@ -31,7 +95,9 @@ public class TaskService {
         if (task.getUserId() == null) {
             throw new BusinessValidationException("MISSING_USER_ID", "Task must have a user ID");
         }
-        return taskRepository.save(task);
+        Task created = taskRepository.save(task);
+        publishChanged(created, TaskChangedEvent.ChangeType.CREATED, true);
+        return created;
     }
 
     /**
@@ -59,6 +125,51 @@ public class TaskService {
         return taskRepository.findByUserId(userId);
     }
 
+    /**
+     * Get a page of all tasks for a user
+     */
+    public CursorPage<TaskSummary> getUserTasks(String userId, CursorPageRequest pageRequest) {
+        CursorPagination.Scroll scroll = cursorPagination.resolve(pageRequest);
+        return cursorPagination.toPage(taskRepository.findSummariesByUserId(
+            userId, scroll.getPosition(), scroll.getLimit(), scroll.getSort()), scroll);
+    }
+
+    /**
+     * Export all tasks of a user as newline-delimited JSON
+     */
+    public void exportTasks(String userId, OutputStream out) throws IOException {
+        ndjsonExporter.write(withNotes(userId, taskRepository.streamByUserId(userId)), out);
+    }
+
+    // Attach the notes to the streamed tasks, reading them with one query per batch of tasks
+    private Stream<TaskExport> withNotes(String userId, Stream<Task> tasks) {
+        Iterator<Task> iterator = tasks.iterator();
+        Iterator<List<Task>> batches = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public List<Task> next() {
+                List<Task> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
+                while (batch.size() < EXPORT_BATCH_SIZE && iterator.hasNext()) {
+                    batch.add(iterator.next());
+                }
+                return batch;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED), false)
+            .flatMap(batch -> {
+                Map<String, List<TaskNote>> notesByTask = taskNoteRepository
+                    .findByUserIdAndTaskIdInOrderByCreatedAtAsc(userId, batch.stream().map(Task::getId).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(TaskNote::getTaskId));
+                return batch.stream().map(task -> new TaskExport(task, notesByTask.getOrDefault(task.getId(), List.of())));
+            })
+            .onClose(tasks::close);
+    }
+
     /**
      * Get tasks by status
      */
@@ -66,18 +177,29 @@ public class TaskService {
         return taskRepository.findByUserIdAndStatus(userId, status);
     }
 
+    /**
+     * Get a page of tasks by status
+     */
+    public CursorPage<TaskSummary> getTasksByStatus(String userId, Task.TaskStatus status, CursorPageRequest pageRequest) {
+        CursorPagination.Scroll scroll = cursorPagination.resolve(pageRequest);
+        return cursorPagination.toPage(taskRepository.findSummariesByUserIdAndStatus(
+            userId, status, scroll.getPosition(), scroll.getLimit(), scroll.getSort()), scroll);
+    }
+
     /**
      * Get today's tasks (core Jedi Techniques "Act" mode feature)
      */
     public List<Task> getTodaysTasks(String userId) {
-        return taskRepository.findByUserIdAndScheduledDate(userId, LocalDate.now());
+        return taskRepository.findByUserIdAndScheduledDate(userId, userTimeZones.today(userId));
     }
 
     /**
-     * Get today's actionable tasks (scheduled for today OR unscheduled active tasks)
+     * Get today's actionable tasks (scheduled for today OR unscheduled active tasks).
+     * Served from the today view cache for the current date in the user's time zone.
      */
     public List<Task> getTodaysActionableTasks(String userId) {
-        return taskRepository.findTodaysActionableTasks(userId, LocalDate.now());
+        LocalDate today = userTimeZones.today(userId);
+        return todayViewCache.get(userId, today, () -> taskRepository.findTodaysActionableTasks(userId, today));
     }
 
     /**
@@ -102,16 +224,26 @@ public class TaskService {
     }
 
     /**
-     * Get overdue tasks
+     * Get overdue tasks (due before the current time in the user's time zone)
      */
-    public List<Task> getOverdueTasks(String userId) {
-        return taskRepository.findByUserIdAndDueDateBeforeAndStatusNot(
+    public List<TaskSummary> getOverdueTasks(String userId) {
+        return taskRepository.findSummariesByUserIdAndDueDateBeforeAndStatusNotOrderByDueDateAsc(
             userId,
-            LocalDateTime.now(),
+            userTimeZones.now(userId),
             Task.TaskStatus.COMPLETED
         );
     }
 
+    /**
+     * Get a page of overdue tasks
+     */
+    public CursorPage<TaskSummary> getOverdueTasks(String userId, CursorPageRequest pageRequest) {
+        CursorPagination.Scroll scroll = cursorPagination.resolve(pageRequest);
+        return cursorPagination.toPage(taskRepository.findSummariesByUserIdAndDueDateBeforeAndStatusNot(
+            userId, userTimeZones.now(userId), Task.TaskStatus.COMPLETED,
+            scroll.getPosition(), scroll.getLimit(), scroll.getSort()), scroll);
+    }
+
     /**
      * Get tasks by context (e.g., "@computer", "@home")
      */
@@ -119,6 +251,15 @@ public class TaskService {
         return taskRepository.findByUserIdAndContext(userId, context);
     }
 
+    /**
+     * Get a page of tasks by context
+     */
+    public CursorPage<TaskSummary> getTasksByContext(String userId, String context, CursorPageRequest pageRequest) {
+        CursorPagination.Scroll scroll = cursorPagination.resolve(pageRequest);
+        return cursorPagination.toPage(taskRepository.findSummariesByUserIdAndContext(
+            userId, context, scroll.getPosition(), scroll.getLimit(), scroll.getSort()), scroll);
+    }
+
     /**
      * Get tasks by energy level (for matching current energy)
      */
@@ -126,6 +267,15 @@ public class TaskService {
         return taskRepository.findByUserIdAndEnergyLessThanEqual(userId, maxEnergy);
     }
 
+    /**
+     * Get a page of tasks by energy level
+     */
+    public CursorPage<TaskSummary> getTasksByEnergyLevel(String userId, int maxEnergy, CursorPageRequest pageRequest) {
+        CursorPagination.Scroll scroll = cursorPagination.resolve(pageRequest);
+        return cursorPagination.toPage(taskRepository.findSummariesByUserIdAndEnergyLessThanEqual(
+            userId, maxEnergy, scroll.getPosition(), scroll.getLimit(), scroll.getSort()), scroll);
+    }
+
     /**
      * Update task
      */
@@ -133,82 +283,215 @@ public class TaskService {
         if (task.getId() == null) {
             throw new IllegalArgumentException("Task ID cannot be null for update");
         }
-        return taskRepository.save(task);
+        Task updated = taskRepository.save(task);
+        publishChanged(updated, TaskChangedEvent.ChangeType.UPDATED, true);
+        return updated;
+    }
+
+    /**
+     * Apply changes to a user's task with a version-checked write.
+     * With an expected version (from If-Match) a change since that version fails the update (412);
+     * without one a change between reading and writing the task fails it (409). The changes replace
+     * the client's view of the task, so they are never re-applied over a concurrent change.
+     */
+    public Task updateTask(String taskId, String userId, Long expectedVersion, Consumer<Task> changes) {
+        if (expectedVersion == null) {
+            return applyTaskChanges(taskId, userId, null, changes);
+        }
+        try {
+            return applyTaskChanges(taskId, userId, expectedVersion, changes);
+        } catch (OptimisticLockingFailureException e) {
+            throw new VersionConflictException("Task", taskId);
+        }
+    }
+
+    private Task applyTaskChanges(String taskId, String userId, Long expectedVersion, Consumer<Task> changes) {
+        Task task = findByIdAndUserId(taskId, userId)
+            .orElseThrow(() -> new ResourceNotFoundException("Task", taskId));
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new VersionConflictException("Task", taskId);
+        }
+        Task.TaskStatus status = task.getStatus();
+        LocalDate scheduledDate = task.getScheduledDate();
+        changes.accept(task);
+        Task updated = taskRepository.save(task);
+        publishChanged(updated, TaskChangedEvent.ChangeType.UPDATED,
+            status != updated.getStatus() || !Objects.equals(scheduledDate, updated.getScheduledDate()));
+        return updated;
     }
 
     /**
      * Start a task (change to IN_PROGRESS)
      */
     public Task startTask(String taskId, String userId) {
-        Optional<Task> taskOpt = findByIdAndUserId(taskId, userId);
-        if (taskOpt.isPresent()) {
-            Task task = taskOpt.get();
-            task.start();
-            return taskRepository.save(task);
-        }
-        throw new ResourceNotFoundException("Task", taskId);
+        return taskRepository.updateOwned(taskId, userId, TaskUpdates.start(LocalDateTime.now(clock)))
+            .map(task -> publishChanged(task, TaskChangedEvent.ChangeType.UPDATED, true))
+            .orElseThrow(() -> new ResourceNotFoundException("Task", taskId));
     }
 
     /**
      * Complete a task
      */
     public Task completeTask(String taskId, String userId) {
-        Optional<Task> taskOpt = findByIdAndUserId(taskId, userId);
-        if (taskOpt.isPresent()) {
-            Task task = taskOpt.get();
-            task.complete();
-            return taskRepository.save(task);
-        }
-        throw new ResourceNotFoundException("Task", taskId);
+        return taskRepository.updateOwned(taskId, userId, TaskUpdates.complete(LocalDateTime.now(clock)))
+            .map(task -> publishChanged(task, TaskChangedEvent.ChangeType.UPDATED, true))
+            .orElseThrow(() -> new ResourceNotFoundException("Task", taskId));
     }
 
     /**
      * Schedule task for a specific date
      */
     public Task scheduleTask(String taskId, String userId, LocalDate scheduledDate) {
-        Optional<Task> taskOpt = findByIdAndUserId(taskId, userId);
-        if (taskOpt.isPresent()) {
-            Task task = taskOpt.get();
-            task.setScheduledDate(scheduledDate);
-            return taskRepository.save(task);
-        }
-        throw new IllegalArgumentException("Task not found or access denied");
+        return taskRepository.updateOwned(taskId, userId,
+                TaskUpdates.schedule(scheduledDate, LocalDateTime.now(clock)))
+            .map(task -> publishChanged(task, TaskChangedEvent.ChangeType.UPDATED, true))
+            .orElseThrow(() -> new IllegalArgumentException("Task not found or access denied"));
     }
 
     /**
-     * Add note to task
+     * Add reflection to completed task
      */
-    public Task addTaskNote(String taskId, String userId, String noteContent) {
-        Optional<Task> taskOpt = findByIdAndUserId(taskId, userId);
-        if (taskOpt.isPresent()) {
-            Task task = taskOpt.get();
-            task.addNote(noteContent);
-            return taskRepository.save(task);
+    public Task addTaskReflection(String taskId, String userId, Task.TaskReflection reflection) {
+        Optional<Task> updated = taskRepository.updateOwnedInStatus(
+            taskId, userId, Task.TaskStatus.COMPLETED, TaskUpdates.reflect(reflection, LocalDateTime.now(clock)));
+        if (updated.isPresent()) {
+            return publishChanged(updated.get(), TaskChangedEvent.ChangeType.UPDATED, false);
+        }
+        // Only reached on failure: tell a missing task apart from one that is not completed
+        if (findByIdAndUserId(taskId, userId).isPresent()) {
+            throw new IllegalArgumentException("Can only add reflection to completed tasks");
         }
         throw new IllegalArgumentException("Task not found or access denied");
     }
 
     /**
-     * Add reflection to completed task
+     * Apply a batch of task operations with one ownership query and one unordered bulk write.
+     * Each operation is validated on its own; a rejected operation does not affect the others.
      */
-    public Task addTaskReflection(String taskId, String userId, Task.TaskReflection reflection) {
-        Optional<Task> taskOpt = findByIdAndUserId(taskId, userId);
-        if (taskOpt.isPresent()) {
-            Task task = taskOpt.get();
-            if (task.getStatus() != Task.TaskStatus.COMPLETED) {
-                throw new IllegalArgumentException("Can only add reflection to completed tasks");
+    public BulkTaskResponse applyBulkOperations(String userId, List<BulkTaskRequest.Operation> operations) {
+        if (operations.size() > maxBulkOperations) {
+            throw new BusinessValidationException("BULK_TOO_LARGE",
+                "A batch may contain at most " + maxBulkOperations + " operations");
+        }
+
+        Map<String, Long> occurrences = operations.stream()
+            .collect(Collectors.groupingBy(BulkTaskRequest.Operation::getTaskId, Collectors.counting()));
+        Set<String> ownedTaskIds = taskRepository.findByIdInAndUserId(occurrences.keySet(), userId).stream()
+            .map(Task::getId)
+            .collect(Collectors.toSet());
+        Set<String> projectIds = operations.stream()
+            .filter(op -> op.getType() == BulkTaskRequest.OperationType.MOVE_TO_PROJECT)
+            .map(BulkTaskRequest.Operation::getProjectId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Set<String> ownedProjectIds = projectIds.isEmpty() ? Set.of()
+            : projectRepository.findByIdInAndUserId(projectIds, userId).stream()
+                .map(Project::getId)
+                .collect(Collectors.toSet());
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        BulkTaskResponse.ItemResult[] results = new BulkTaskResponse.ItemResult[operations.size()];
+        List<TaskWrite> writes = new ArrayList<>();
+        List<Integer> writeIndexes = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            BulkTaskRequest.Operation op = operations.get(i);
+            if (!ownedTaskIds.contains(op.getTaskId())) {
+                results[i] = bulkResult(op, BulkTaskResponse.ItemStatus.NOT_FOUND, "Task not found or access denied");
+            } else if (occurrences.get(op.getTaskId()) > 1) {
+                // Unordered writes to the same task would race each other
+                results[i] = bulkResult(op, BulkTaskResponse.ItemStatus.INVALID, "Task appears more than once in the batch");
+            } else {
+                try {
+                    writes.add(toTaskWrite(op, ownedProjectIds, now));
+                    writeIndexes.add(i);
+                } catch (BusinessValidationException e) {
+                    results[i] = bulkResult(op, BulkTaskResponse.ItemStatus.INVALID, e.getMessage());
+                }
             }
-            task.setReflection(reflection);
-            return taskRepository.save(task);
         }
-        throw new IllegalArgumentException("Task not found or access denied");
+
+        Map<Integer, String> failures = taskRepository.bulkWrite(userId, writes);
+        Map<BulkTaskRequest.OperationType, List<String>> applied =
+            new EnumMap<>(BulkTaskRequest.OperationType.class);
+        for (int w = 0; w < writes.size(); w++) {
+            BulkTaskRequest.Operation op = operations.get(writeIndexes.get(w));
+            if (failures.containsKey(w)) {
+                results[writeIndexes.get(w)] = bulkResult(op, BulkTaskResponse.ItemStatus.FAILED, failures.get(w));
+            } else {
+                results[writeIndexes.get(w)] = bulkResult(op, BulkTaskResponse.ItemStatus.APPLIED, null);
+                applied.computeIfAbsent(op.getType(), type -> new ArrayList<>()).add(op.getTaskId());
+            }
+        }
+        applied.forEach((type, taskIds) -> publishChanged(userId, taskIds,
+            type == BulkTaskRequest.OperationType.DELETE
+                ? TaskChangedEvent.ChangeType.DELETED : TaskChangedEvent.ChangeType.UPDATED,
+            type != BulkTaskRequest.OperationType.MOVE_TO_PROJECT));
+        return new BulkTaskResponse(Arrays.asList(results));
+    }
+
+    private static TaskWrite toTaskWrite(BulkTaskRequest.Operation op, Set<String> ownedProjectIds,
+                                         LocalDateTime now) {
+        return switch (op.getType()) {
+            case START -> TaskWrite.update(op.getTaskId(), TaskUpdates.start(now));
+            case COMPLETE -> TaskWrite.update(op.getTaskId(), TaskUpdates.complete(now));
+            case SCHEDULE -> {
+                if (op.getScheduledDate() == null) {
+                    throw new BusinessValidationException("MISSING_SCHEDULED_DATE", "Scheduled date is required");
+                }
+                yield TaskWrite.update(op.getTaskId(), TaskUpdates.schedule(op.getScheduledDate(), now));
+            }
+            case MOVE_TO_PROJECT -> {
+                if (op.getProjectId() != null && !ownedProjectIds.contains(op.getProjectId())) {
+                    throw new BusinessValidationException("PROJECT_NOT_FOUND", "Project not found or access denied");
+                }
+                yield TaskWrite.update(op.getTaskId(), TaskUpdates.moveToProject(op.getProjectId(), now));
+            }
+            case DELETE -> TaskWrite.delete(op.getTaskId());
+        };
+    }
+
+    private static BulkTaskResponse.ItemResult bulkResult(BulkTaskRequest.Operation op,
+                                                          BulkTaskResponse.ItemStatus status, String message) {
+        return new BulkTaskResponse.ItemResult(op.getTaskId(), op.getType(), status, message);
     }
 
     /**
-     * Search tasks by title
+     * Search tasks by word prefixes over title, description, notes and reflection, ranked by relevance.
+     * A task matches when its own fields and its notes together contain every term.
+     * Ranking needs the full candidates; only the summaries of the results are returned.
      */
-    public List<Task> searchTasksByTitle(String userId, String searchTerm) {
-        return taskRepository.findByUserIdAndTitleContainingIgnoreCase(userId, searchTerm);
+    public List<TaskSummary> searchTasks(String userId, String query, int limit) {
+        List<String> terms = searchSettings.queryTerms(query);
+        List<String> ids = taskRepository.findIdsBySearchKeywordsWithNotes(
+            userId, terms, searchSettings.candidateLimit().max());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // Keep the most recently updated first order of the ids
+        Map<String, Task> tasksById = new HashMap<>();
+        taskRepository.findAllById(ids).forEach(task -> tasksById.put(task.getId(), task));
+        List<Task> candidates = ids.stream().map(tasksById::get).filter(Objects::nonNull).toList();
+
+        Map<String, List<TaskNote>> notes = taskNoteRepository
+            .findByUserIdAndTaskIdInOrderByCreatedAtAsc(userId, ids).stream()
+            .collect(Collectors.groupingBy(TaskNote::getTaskId));
+
+        return SearchRanking.rank(candidates, terms,
+                task -> searchFields(task, notes.getOrDefault(task.getId(), List.of())),
+                searchSettings.resultLimit(limit))
+            .stream()
+            .map(TaskSummary::of)
+            .toList();
+    }
+
+    private static List<SearchRanking.Field> searchFields(Task task, List<TaskNote> notes) {
+        List<SearchRanking.Field> fields = new ArrayList<>();
+        fields.add(new SearchRanking.Field(task.getTitle(), 3));
+        fields.add(new SearchRanking.Field(task.getDescription(), 1));
+        notes.forEach(note -> fields.add(new SearchRanking.Field(note.getContent(), 1)));
+        SearchKeywords.reflectionTexts(task.getReflection())
+            .forEach(text -> fields.add(new SearchRanking.Field(text, 1)));
+        return fields;
     }
 
     /**
@@ -227,22 +510,21 @@ public class TaskService {
     }
 
     /**
-     * Get task statistics for a user
+     * Get a page of tasks with reflection data
+     */
+    public CursorPage<TaskSummary> getTasksWithReflection(String userId, CursorPageRequest pageRequest) {
+        CursorPagination.Scroll scroll = cursorPagination.resolve(pageRequest);
+        return cursorPagination.toPage(taskRepository.findSummariesByUserIdAndReflectionIsNotNull(
+            userId, scroll.getPosition(), scroll.getLimit(), scroll.getSort()), scroll);
+    }
+
+    /**
+     * Get task statistics for a user (single aggregation round-trip)
      */
     public TaskStatistics getTaskStatistics(String userId) {
-        long totalTasks = taskRepository.findByUserId(userId).size();
-        long todoTasks = taskRepository.countByUserIdAndStatus(userId, Task.TaskStatus.TODO);
-        long inProgressTasks = taskRepository.countByUserIdAndStatus(userId, Task.TaskStatus.IN_PROGRESS);
-        long completedTasks = taskRepository.countByUserIdAndStatus(userId, Task.TaskStatus.COMPLETED);
-        long waitingTasks = taskRepository.countByUserIdAndStatus(userId, Task.TaskStatus.WAITING);
-
-        List<Task> todaysTasks = getTodaysTasks(userId);
-        List<Task> overdueTasks = getOverdueTasks(userId);
-
-        return new TaskStatistics(
-            totalTasks, todoTasks, inProgressTasks, completedTasks, waitingTasks,
-            todaysTasks.size(), overdueTasks.size()
-        );
+        TaskStatistics statistics = taskRepository.aggregateTaskStatistics(
+            userId, userTimeZones.today(userId), userTimeZones.now(userId));
+        return statistics != null ? statistics : new TaskStatistics(0, 0, 0, 0, 0, 0, 0);
     }
 
     /**
@@ -252,42 +534,22 @@ public class TaskService {
         Optional<Task> task = findByIdAndUserId(taskId, userId);
         if (task.isPresent()) {
             taskRepository.deleteById(taskId);
+            publishChanged(userId, List.of(taskId), TaskChangedEvent.ChangeType.DELETED, true);
         } else {
             throw new IllegalArgumentException("Task not found or access denied");
         }
     }
 
     /**
-     * Task statistics data class
-     */
-    public static class TaskStatistics {
-        private final long totalTasks;
-        private final long todoTasks;
-        private final long inProgressTasks;
-        private final long completedTasks;
-        private final long waitingTasks;
-        private final long todaysTasks;
-        private final long overdueTasks;
-
-        public TaskStatistics(long totalTasks, long todoTasks, long inProgressTasks,
-                            long completedTasks, long waitingTasks, long todaysTasks,
-                            long overdueTasks) {
-            this.totalTasks = totalTasks;
-            this.todoTasks = todoTasks;
-            this.inProgressTasks = inProgressTasks;
-            this.completedTasks = completedTasks;
-            this.waitingTasks = waitingTasks;
-            this.todaysTasks = todaysTasks;
-            this.overdueTasks = overdueTasks;
-        }
+     * Notify listeners (e.g. the today view cache) that tasks of a user changed
+     */
+    private void publishChanged(String userId, Collection<String> taskIds, TaskChangedEvent.ChangeType changeType,
+                                boolean scheduleChanged) {
+        eventPublisher.publishEvent(new TaskChangedEvent(userId, taskIds, changeType, scheduleChanged));
+    }
 
-        // Getters
-        public long getTotalTasks() { return totalTasks; }
-        public long getTodoTasks() { return todoTasks; }
-        public long getInProgressTasks() { return inProgressTasks; }
-        public long getCompletedTasks() { return completedTasks; }
-        public long getWaitingTasks() { return waitingTasks; }
-        public long getTodaysTasks() { return todaysTasks; }
-        public long getOverdueTasks() { return overdueTasks; }
+    private Task publishChanged(Task task, TaskChangedEvent.ChangeType changeType, boolean scheduleChanged) {
+        publishChanged(task.getUserId(), List.of(task.getId()), changeType, scheduleChanged);
+        return task;
     }
 }
@@ -0,0 +1,27 @@
+package com.jediorganizer.service;
+
+import com.jediorganizer.model.Task;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Per-user read-through cache of the "today" view.
+ * An entry is only served for the user-local day it was loaded for, so it rolls over at
+ * the user's midnight; implementations evict entries on {@link TaskChangedEvent}.
+ * Selected with app.cache.today.provider: caffeine (in-process, default) or redis (shared by replicas).
+ */
+public interface TodayViewCache {
+
+    /**
+     * Get the cached view of a user for the given day, loading it on a miss.
+     * A load that overlaps an invalidation of the same user is returned but not cached.
+     */
+    List<Task> get(String userId, LocalDate day, Supplier<List<Task>> loader);
+
+    /**
+     * Evict the cached view of a user
+     */
+    void invalidate(String userId);
+}
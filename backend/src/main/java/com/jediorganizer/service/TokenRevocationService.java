@@ -0,0 +1,92 @@
+package com.jediorganizer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jediorganizer.model.User;
+import com.jediorganizer.repository.UserRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * In-memory revocation set for stateless JWT authentication.
+ * Holds the minimum accepted token version per user; entries only need to outlive the
+ * tokens they revoke, so they expire after the JWT lifetime and are never evicted before.
+ * The set is loaded at startup from users whose tokens were revoked within the JWT lifetime,
+ * and refreshed periodically so revocations made on other nodes are picked up.
+ */
+@Service
+public class TokenRevocationService implements SmartInitializingSingleton {
+
+    // Covers clock skew between nodes and revocations saved while a refresh runs
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final UserRepository userRepository;
+    private final Duration jwtLifetime;
+    private final Cache<String, Long> minimumVersions;
+    private volatile LocalDateTime refreshedFrom;
+
+    public TokenRevocationService(
+        UserRepository userRepository,
+        @Value("${app.jwt.expiration:86400000}") long jwtExpiration
+    ) {
+        this.userRepository = userRepository;
+        this.jwtLifetime = Duration.ofMillis(jwtExpiration);
+        this.minimumVersions = Caffeine.newBuilder()
+                .expireAfterWrite(jwtLifetime)
+                .build();
+    }
+
+    /**
+     * Load the revocations still covering unexpired tokens before requests are served
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        LocalDateTime started = LocalDateTime.now();
+        loadRevokedSince(started.minus(jwtLifetime));
+        refreshedFrom = started.minus(REFRESH_OVERLAP);
+    }
+
+    /**
+     * Pick up revocations made since the last refresh, including those of other nodes
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.refresh:PT30S}",
+               initialDelayString = "${app.jwt.revocation.refresh:PT30S}")
+    public void refresh() {
+        LocalDateTime started = LocalDateTime.now();
+        loadRevokedSince(refreshedFrom);
+        refreshedFrom = started.minus(REFRESH_OVERLAP);
+    }
+
+    private void loadRevokedSince(LocalDateTime since) {
+        for (User user : userRepository.findByTokensRevokedAtAfter(since)) {
+            revokeBefore(user.getId(), user.getTokenVersion());
+        }
+    }
+
+    /**
+     * Reject every token of the user issued with a version lower than the given one
+     */
+    public void revokeBefore(String userId, long version) {
+        minimumVersions.asMap().merge(userId, version, Math::max);
+    }
+
+    /**
+     * Reject every token of the user regardless of version
+     */
+    public void revokeAll(String userId) {
+        revokeBefore(userId, Long.MAX_VALUE);
+    }
+
+    /**
+     * Check whether a token carrying the given version has been revoked
+     */
+    public boolean isRevoked(String userId, long tokenVersion) {
+        Long minimumVersion = minimumVersions.getIfPresent(userId);
+        return minimumVersion != null && tokenVersion < minimumVersion;
+    }
+}
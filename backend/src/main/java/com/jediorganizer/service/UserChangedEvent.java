@@ -0,0 +1,24 @@
+package com.jediorganizer.service;
+
+/**
+ * Application event published whenever a user's account data changes.
+ * Email may be null when only the user ID is known (e.g. on delete).
+ */
+public class UserChangedEvent {
+
+    private final String userId;
+    private final String email;
+
+    public UserChangedEvent(String userId, String email) {
+        this.userId = userId;
+        this.email = email;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
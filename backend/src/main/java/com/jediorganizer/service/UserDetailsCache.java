@@ -0,0 +1,117 @@
+package com.jediorganizer.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of UserDetails keyed by email.
+ * Entries are evicted on {@link UserChangedEvent}; hit, miss and eviction
+ * counters are published as "cache.*" metrics with cache=userDetails.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final AsyncCache<String, CachedUserDetails> cache;
+    // Cached email of each user, for events that do not carry it (email changes, deletes)
+    private final Map<String, String> emailsByUserId = new ConcurrentHashMap<>();
+
+    public UserDetailsCache(
+        MeterRegistry meterRegistry,
+        @Value("${app.security.user-cache.ttl:5m}") Duration ttl,
+        @Value("${app.security.user-cache.max-size:10000}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                // Runs within the eviction, so the index never outlives the entry it points to
+                .evictionListener((String email, CachedUserDetails cached, RemovalCause cause) -> {
+                    if (email != null && cached != null) {
+                        emailsByUserId.remove(cached.getUserId(), email);
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "userDetails");
+    }
+
+    /**
+     * Get cached user details, loading them on a miss.
+     * Concurrent misses for the same email share a single load, which runs on the calling
+     * thread rather than inside the map's compute, where blocking I/O would pin a virtual thread.
+     */
+    public UserDetails get(String email, Function<String, CachedUserDetails> loader) {
+        CompletableFuture<CachedUserDetails> cached = cache.getIfPresent(email);
+        if (cached == null) {
+            CompletableFuture<CachedUserDetails> loading = new CompletableFuture<>();
+            cached = cache.asMap().putIfAbsent(email, loading);
+            if (cached == null) {
+                return load(email, loader, loading).getUserDetails();
+            }
+        }
+        try {
+            return cached.join().getUserDetails();
+        } catch (CancellationException e) {
+            // The shared load failed; repeat it to get its exception, e.g. UsernameNotFoundException
+            return loader.apply(email).getUserDetails();
+        }
+    }
+
+    private CachedUserDetails load(String email, Function<String, CachedUserDetails> loader,
+                                   CompletableFuture<CachedUserDetails> loading) {
+        try {
+            CachedUserDetails loaded = loader.apply(email);
+            emailsByUserId.put(loaded.getUserId(), email);
+            loading.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            // Cancelled rather than failed, which the cache would log as an unexpected error
+            cache.asMap().remove(email, loading);
+            loading.cancel(false);
+            throw e;
+        }
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getEmail() != null) {
+            cache.synchronous().invalidate(event.getEmail());
+        }
+        if (event.getUserId() != null) {
+            // Covers email changes and deletes, where the cached key is not the event's email
+            String cachedEmail = emailsByUserId.remove(event.getUserId());
+            if (cachedEmail != null) {
+                cache.synchronous().invalidate(cachedEmail);
+            }
+        }
+    }
+
+    /**
+     * Cached value remembering the owning user ID for invalidation
+     */
+    public static class CachedUserDetails {
+        private final String userId;
+        private final UserDetails userDetails;
+
+        public CachedUserDetails(String userId, UserDetails userDetails) {
+            this.userId = userId;
+            this.userDetails = userDetails;
+        }
+
+        public String getUserId() { return userId; }
+        public UserDetails getUserDetails() { return userDetails; }
+    }
+}
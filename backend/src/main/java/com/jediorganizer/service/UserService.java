@@ -3,6 +3,7 @@ package com.jediorganizer.service;
 import com.jediorganizer.model.User;
 import com.jediorganizer.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.User.UserBuilder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -21,14 +22,29 @@ import java.util.Optional;
 public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserDetailsCache userDetailsCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(
+        UserRepository userRepository,
+        TokenRevocationService tokenRevocationService,
+        UserDetailsCache userDetailsCache,
+        ApplicationEventPublisher eventPublisher
+    ) {
         this.userRepository = userRepository;
+        this.tokenRevocationService = tokenRevocationService;
+        this.userDetailsCache = userDetailsCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return userDetailsCache.get(email, this::buildUserDetails);
+    }
+
+    private UserDetailsCache.CachedUserDetails buildUserDetails(String email) {
         Optional<User> userOpt = userRepository.findByEmail(email);
         if (userOpt.isEmpty()) {
             throw new UsernameNotFoundException("User not found with email: " + email);
@@ -37,13 +53,21 @@ public class UserService implements UserDetailsService {
         User user = userOpt.get();
         UserBuilder builder = org.springframework.security.core.userdetails.User.withUsername(email);
         builder.password(""); // OAuth users don't have passwords
-        builder.authorities("ROLE_USER");
+        builder.authorities(JwtService.ROLE_USER);
         builder.accountExpired(false);
         builder.accountLocked(!user.isActive());
         builder.credentialsExpired(false);
         builder.disabled(!user.isActive());
 
-        return builder.build();
+        return new UserDetailsCache.CachedUserDetails(user.getId(), builder.build());
+    }
+
+    /**
+     * Notify listeners (e.g. the UserDetails cache) that a user changed
+     */
+    private User publishChanged(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
+        return user;
     }
 
     /**
@@ -84,7 +108,7 @@ public class UserService implements UserDetailsService {
         if (user.getId() == null) {
             throw new IllegalArgumentException("User ID cannot be null for update");
         }
-        return userRepository.save(user);
+        return publishChanged(userRepository.save(user));
     }
 
     /**
@@ -101,14 +125,17 @@ public class UserService implements UserDetailsService {
     }
 
     /**
-     * Deactivate user (soft delete)
+     * Deactivate user (soft delete) and revoke already issued tokens
      */
     public User deactivateUser(String userId) {
         Optional<User> userOpt = userRepository.findById(userId);
         if (userOpt.isPresent()) {
             User user = userOpt.get();
             user.setActive(false);
-            return userRepository.save(user);
+            user.revokeIssuedTokens();
+            User savedUser = userRepository.save(user);
+            tokenRevocationService.revokeBefore(userId, savedUser.getTokenVersion());
+            return publishChanged(savedUser);
         }
         throw new IllegalArgumentException("User not found with ID: " + userId);
     }
@@ -121,7 +148,7 @@ public class UserService implements UserDetailsService {
         if (userOpt.isPresent()) {
             User user = userOpt.get();
             user.setActive(true);
-            return userRepository.save(user);
+            return publishChanged(userRepository.save(user));
         }
         throw new IllegalArgumentException("User not found with ID: " + userId);
     }
@@ -185,7 +212,7 @@ public class UserService implements UserDetailsService {
             user.setDisplayName(name);
             user.setProfileImageUrl(picture);
             user.updateLastLogin();
-            return userRepository.save(user);
+            return publishChanged(userRepository.save(user));
         }
 
         // Try to find by email (existing user linking OAuth)
@@ -196,7 +223,7 @@ public class UserService implements UserDetailsService {
             user.setGoogleId(googleId);
             user.setProfileImageUrl(picture);
             user.updateLastLogin();
-            return userRepository.save(user);
+            return publishChanged(userRepository.save(user));
         }
 
         // Create new user
@@ -209,7 +236,7 @@ public class UserService implements UserDetailsService {
         newUser.setDisplayName(name);
         newUser.setProfileImageUrl(picture);
         newUser.updateLastLogin();
-        return userRepository.save(newUser);
+        return publishChanged(userRepository.save(newUser));
     }
 
     /**
@@ -217,5 +244,7 @@ public class UserService implements UserDetailsService {
      */
     public void deleteUser(String userId) {
         userRepository.deleteById(userId);
+        tokenRevocationService.revokeAll(userId);
+        eventPublisher.publishEvent(new UserChangedEvent(userId, null));
     }
 }
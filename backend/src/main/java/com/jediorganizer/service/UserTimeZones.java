@@ -0,0 +1,139 @@
+package com.jediorganizer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jediorganizer.model.User;
+import com.jediorganizer.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the time zone of a user from UserPreferences.timezone, falling back to UTC
+ * for unknown users and invalid zone IDs, and the user-local date and time from the injected clock.
+ * Zones are cached per user and evicted on {@link UserChangedEvent}; the boundaries of
+ * the current day are cached per zone until the day ends.
+ */
+@Component
+public class UserTimeZones {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserTimeZones.class);
+
+    private final UserRepository userRepository;
+    private final Clock clock;
+    private final Cache<String, ZoneId> zones;
+    // One entry per zone in use, replaced when its day is over
+    private final Map<ZoneId, Day> currentDays = new ConcurrentHashMap<>();
+
+    public UserTimeZones(
+        UserRepository userRepository,
+        Clock clock,
+        @Value("${app.users.zone-cache.ttl:10m}") Duration ttl,
+        @Value("${app.users.zone-cache.max-size:10000}") long maxSize
+    ) {
+        this.userRepository = userRepository;
+        this.clock = clock;
+        this.zones = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Get the time zone of a user
+     */
+    public ZoneId zoneOf(String userId) {
+        ZoneId zone = zones.getIfPresent(userId);
+        if (zone == null) {
+            // Loaded outside the cache so the lookup does not hold a map lock
+            zone = loadZone(userId);
+            zones.put(userId, zone);
+        }
+        return zone;
+    }
+
+    /**
+     * Get the current date in the time zone of a user
+     */
+    public LocalDate today(String userId) {
+        return currentDay(zoneOf(userId), clock.instant()).date;
+    }
+
+    /**
+     * Get the current date and time in the time zone of a user
+     */
+    public LocalDateTime now(String userId) {
+        return LocalDateTime.ofInstant(clock.instant(), zoneOf(userId));
+    }
+
+    private Day currentDay(ZoneId zone, Instant now) {
+        Day day = currentDays.get(zone);
+        if (day == null || !day.contains(now)) {
+            day = Day.of(zone, now);
+            currentDays.put(zone, day);
+        }
+        return day;
+    }
+
+    private ZoneId loadZone(String userId) {
+        return userRepository.findById(userId)
+            .map(User::getPreferences)
+            .map(User.UserPreferences::getTimezone)
+            .map(UserTimeZones::parseZone)
+            .orElse(ZoneOffset.UTC);
+    }
+
+    private static ZoneId parseZone(String timezone) {
+        try {
+            return ZoneId.of(timezone);
+        } catch (DateTimeException e) {
+            logger.warn("Invalid time zone '{}' in user preferences, using UTC", timezone);
+            return ZoneOffset.UTC;
+        }
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getUserId() != null) {
+            zones.invalidate(event.getUserId());
+        }
+    }
+
+    /**
+     * A date in a zone with the instants it starts (inclusive) and ends (exclusive)
+     */
+    private static class Day {
+        private final LocalDate date;
+        private final Instant start;
+        private final Instant end;
+
+        private Day(LocalDate date, Instant start, Instant end) {
+            this.date = date;
+            this.start = start;
+            this.end = end;
+        }
+
+        static Day of(ZoneId zone, Instant now) {
+            LocalDate date = LocalDate.ofInstant(now, zone);
+            // atStartOfDay accounts for days that don't start at midnight due to DST
+            return new Day(date, date.atStartOfDay(zone).toInstant(), date.plusDays(1).atStartOfDay(zone).toInstant());
+        }
+
+        boolean contains(Instant instant) {
+            return !instant.isBefore(start) && instant.isBefore(end);
+        }
+    }
+}
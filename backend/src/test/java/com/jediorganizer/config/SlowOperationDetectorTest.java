@@ -0,0 +1,70 @@
+package com.jediorganizer.config;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redaction of slow command shapes: values become "?" while field names, operators,
+ * sort orders, projections and hints are kept.
+ */
+class SlowOperationDetectorTest {
+
+    @Test
+    void findFilterValuesAreRedacted() {
+        BsonDocument command = BsonDocument.parse("{ find: 'tasks', filter: { userId: 'user-1', status: { $in: ['TODO', 'WAITING'] },"
+            + " dueDate: { $lt: { $date: '2024-03-01T00:00:00Z' } } }, sort: { dueDate: 1 },"
+            + " projection: { title: 1 }, limit: 50, lsid: { id: 'session' }, $db: 'jedi' }");
+
+        assertThat(SlowOperationDetector.shape(command)).isEqualTo(BsonDocument.parse(
+            "{ filter: { userId: '?', status: { $in: ['?'] }, dueDate: { $lt: '?' } }, sort: { dueDate: 1 },"
+                + " projection: { title: 1 } }"));
+    }
+
+    @Test
+    void nestedLogicalOperatorsKeepTheirStructure() {
+        BsonDocument command = BsonDocument.parse("{ find: 'tasks', filter: { $or: [ { title: 'Secret' },"
+            + " { searchKeywords: { $all: ['se', 'sec'] } } ] }, hint: { userId: 1, searchKeywords: 1 } }");
+
+        assertThat(SlowOperationDetector.shape(command)).isEqualTo(BsonDocument.parse(
+            "{ filter: { $or: [ { title: '?' }, { searchKeywords: { $all: ['?'] } } ] },"
+                + " hint: { userId: 1, searchKeywords: 1 } }"));
+    }
+
+    @Test
+    void aggregationPipelinesAreRedacted() {
+        BsonDocument command = BsonDocument.parse("{ aggregate: 'tasks', pipeline: [ { $match: { userId: 'user-1' } },"
+            + " { $group: { _id: '$status', count: { $sum: 1 } } } ], cursor: {} }");
+
+        assertThat(SlowOperationDetector.shape(command)).isEqualTo(BsonDocument.parse(
+            "{ pipeline: [ { $match: { userId: '?' } }, { $group: { _id: '?', count: { $sum: '?' } } } ] }"));
+    }
+
+    @Test
+    void updateQueriesAndValuesAreRedacted() {
+        BsonDocument command = BsonDocument.parse("{ update: 'tasks', updates: [ { q: { _id: 'task-1', version: 3 },"
+            + " u: { $set: { title: 'Private title' }, $inc: { version: 1 } }, upsert: false } ] }");
+
+        assertThat(SlowOperationDetector.shape(command)).isEqualTo(BsonDocument.parse(
+            "{ updates: [ { q: { _id: '?', version: '?' }, u: { $set: { title: '?' }, $inc: { version: '?' } },"
+                + " upsert: false } ] }"));
+    }
+
+    @Test
+    void findAndModifyKeepsItsUpdateButNotTheCollectionName() {
+        BsonDocument command = BsonDocument.parse("{ findAndModify: 'tasks', query: { _id: 'task-1' },"
+            + " update: { $set: { status: 'COMPLETED' } }, new: true }");
+
+        assertThat(SlowOperationDetector.shape(command)).isEqualTo(BsonDocument.parse(
+            "{ query: { _id: '?' }, update: { $set: { status: '?' } } }"));
+    }
+
+    @Test
+    void emptyArraysStayEmpty() {
+        BsonDocument command = BsonDocument.parse("{ find: 'tasks', filter: { subtasks: { $in: [] } } }");
+
+        assertThat(SlowOperationDetector.shape(command)).isEqualTo(BsonDocument.parse(
+            "{ filter: { subtasks: { $in: [] } } }"));
+    }
+}
@@ -0,0 +1,141 @@
+package com.jediorganizer.controller;
+
+import com.jediorganizer.exception.BusinessValidationException;
+import com.jediorganizer.exception.GlobalExceptionHandler;
+import com.jediorganizer.model.Task;
+import com.jediorganizer.repository.ProjectRepository;
+import com.jediorganizer.repository.TaskNoteRepository;
+import com.jediorganizer.repository.TaskRepository;
+import com.jediorganizer.service.CursorPagination;
+import com.jediorganizer.service.NdjsonExporter;
+import com.jediorganizer.service.SearchSettings;
+import com.jediorganizer.service.TaskNoteService;
+import com.jediorganizer.service.TaskService;
+import com.jediorganizer.service.TodayViewCache;
+import com.jediorganizer.service.UserTimeZones;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Clock;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ETags and conditional updates of tasks: the ETag of a read is accepted back as If-Match,
+ * a stale If-Match fails with 412, and an update without If-Match is never retried over a concurrent change.
+ */
+class TaskVersioningTest {
+
+    private static final String USER_ID = "demo-user-123";
+    private static final String TASK_ID = "task-1";
+
+    private TaskRepository taskRepository;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        TaskService taskService = new TaskService(taskRepository, mock(TaskNoteRepository.class),
+            mock(ProjectRepository.class), mock(CursorPagination.class), mock(NdjsonExporter.class),
+            mock(SearchSettings.class), mock(TodayViewCache.class), mock(UserTimeZones.class), Clock.systemUTC(),
+            mock(ApplicationEventPublisher.class), 500);
+        mockMvc = MockMvcBuilders.standaloneSetup(new TaskController(taskService, mock(TaskNoteService.class)))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    void etagOfAReadIsAcceptedAsIfMatch() throws Exception {
+        storedTask(4L);
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task saved = invocation.getArgument(0);
+            saved.setVersion(saved.getVersion() + 1);
+            return saved;
+        });
+
+        String etag = mockMvc.perform(get("/api/v1/tasks/{id}", TASK_ID))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/v1/tasks/{id}", TASK_ID).header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON).content("{\"title\": \"Renamed\"}"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
+            .andExpect(jsonPath("$.title").value("Renamed"));
+    }
+
+    @Test
+    void staleIfMatchFailsWithPreconditionFailed() throws Exception {
+        storedTask(5L);
+
+        mockMvc.perform(put("/api/v1/tasks/{id}", TASK_ID).header(HttpHeaders.IF_MATCH, "\"4\"")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"title\": \"Renamed\"}"))
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.code").value("PRECONDITION_FAILED"));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void concurrentChangeAfterTheIfMatchCheckFailsWithPreconditionFailed() throws Exception {
+        storedTask(4L);
+        when(taskRepository.save(any(Task.class))).thenThrow(new OptimisticLockingFailureException("version 4"));
+
+        mockMvc.perform(put("/api/v1/tasks/{id}", TASK_ID).header(HttpHeaders.IF_MATCH, "W/\"4\"")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"title\": \"Renamed\"}"))
+            .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateWithoutIfMatchIsNotRetriedOverAConcurrentChange() throws Exception {
+        storedTask(4L);
+        when(taskRepository.save(any(Task.class))).thenThrow(new OptimisticLockingFailureException("version 4"));
+
+        mockMvc.perform(put("/api/v1/tasks/{id}", TASK_ID)
+                .contentType(MediaType.APPLICATION_JSON).content("{\"title\": \"Renamed\"}"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.code").value("CONCURRENT_MODIFICATION"));
+        verify(taskRepository, times(1)).save(any(Task.class));
+    }
+
+    @Test
+    void parsesIfMatchHeaders() {
+        ResponseEntity<String> response = ETags.ok("body", 7L);
+
+        assertThat(ETags.parseIfMatch(response.getHeaders().getETag())).isEqualTo(7L);
+        assertThat(ETags.parseIfMatch("W/\"7\"")).isEqualTo(7L);
+        assertThat(ETags.parseIfMatch(" 7 ")).isEqualTo(7L);
+        assertThat(ETags.parseIfMatch("*")).isNull();
+        assertThat(ETags.parseIfMatch(null)).isNull();
+        assertThatThrownBy(() -> ETags.parseIfMatch("\"abc\""))
+            .isInstanceOf(BusinessValidationException.class)
+            .extracting("errorCode").isEqualTo("INVALID_IF_MATCH");
+    }
+
+    private void storedTask(Long version) {
+        Task task = new Task("Write report", USER_ID);
+        task.setId(TASK_ID);
+        task.setVersion(version);
+        when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(task));
+    }
+}
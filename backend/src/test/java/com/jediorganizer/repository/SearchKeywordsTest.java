@@ -0,0 +1,72 @@
+package com.jediorganizer.repository;
+
+import com.jediorganizer.model.Project;
+import com.jediorganizer.model.Task;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keyword and query term derivation for prefix search.
+ */
+class SearchKeywordsTest {
+
+    @Test
+    void splitsTextIntoLowerCasedWords() {
+        assertThat(SearchKeywords.words("Call Bob: re-order 42 Crème!")).containsExactly("call", "bob", "re", "order", "42", "crème");
+        assertThat(SearchKeywords.words("  ")).isEmpty();
+        assertThat(SearchKeywords.words(null)).isEmpty();
+    }
+
+    @Test
+    void storesEveryPrefixFromMinimumLength() {
+        assertThat(SearchKeywords.of(List.of("Plan"))).containsExactly("pl", "pla", "plan");
+    }
+
+    @Test
+    void skipsWordsShorterThanMinimumPrefix() {
+        assertThat(SearchKeywords.of(List.of("a to"))).containsExactly("to");
+    }
+
+    @Test
+    void capsPrefixesAtMaximumLength() {
+        String word = "internationalization";
+        List<String> keywords = SearchKeywords.of(List.of(word));
+
+        assertThat(keywords).hasSize(SearchKeywords.MAX_PREFIX - SearchKeywords.MIN_PREFIX + 1);
+        assertThat(keywords).last().isEqualTo(word.substring(0, SearchKeywords.MAX_PREFIX));
+    }
+
+    @Test
+    void removesDuplicatesAcrossTextsAndIgnoresNulls() {
+        assertThat(SearchKeywords.of(Arrays.asList("go", null, "Go go"))).containsExactly("go");
+    }
+
+    @Test
+    void taskKeywordsCoverTitleDescriptionAndReflection() {
+        Task task = new Task("Write", "user-1");
+        task.setDescription("report");
+        Task.TaskReflection reflection = new Task.TaskReflection();
+        reflection.setLessonsLearned("early");
+        task.setReflection(reflection);
+
+        assertThat(SearchKeywords.forTask(task)).contains("wr", "write", "re", "report", "ea", "early");
+    }
+
+    @Test
+    void projectKeywordsCoverTitleAndDescription() {
+        Project project = new Project("Garden", "user-1");
+        project.setDescription("tomatoes");
+
+        assertThat(SearchKeywords.forProject(project)).contains("ga", "garden", "to", "tomatoes");
+    }
+
+    @Test
+    void queryTermsAreTruncatedDeduplicatedAndLongestFirst() {
+        assertThat(SearchKeywords.queryTerms("a Plan plan internationalization go"))
+            .containsExactly("internationaliz", "plan", "go");
+    }
+}
@@ -0,0 +1,97 @@
+package com.jediorganizer.repository;
+
+import com.jediorganizer.dto.CursorPage;
+import com.jediorganizer.dto.CursorPageRequest;
+import com.jediorganizer.dto.TaskSummary;
+import com.jediorganizer.model.Task;
+import com.jediorganizer.service.CursorPagination;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cursor pagination of task summaries against a real MongoDB.
+ */
+@DataMongoTest
+@Import(CursorPagination.class)
+@Testcontainers(disabledWithoutDocker = true)
+class TaskSummaryPaginationTest {
+
+    private static final String USER_ID = "user-1";
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", MONGO::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CursorPagination cursorPagination;
+
+    @BeforeEach
+    void createTasks() {
+        taskRepository.deleteAll();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 0; i < 5; i++) {
+            Task task = new Task("Task " + i, USER_ID);
+            task.setCreatedAt(start.plusHours(i));
+            task.setUpdatedAt(start.plusDays(1).minusHours(i));
+            taskRepository.save(task);
+        }
+        taskRepository.save(new Task("Someone else's task", "user-2"));
+    }
+
+    @Test
+    void pagesThroughAllSummariesByCreationTime() {
+        List<String> titles = fetchAll("createdAt", Sort.Direction.ASC);
+
+        assertThat(titles).containsExactly("Task 0", "Task 1", "Task 2", "Task 3", "Task 4");
+    }
+
+    @Test
+    void pagesThroughAllSummariesByUpdateTimeDescending() {
+        List<String> titles = fetchAll("updatedAt", Sort.Direction.DESC);
+
+        assertThat(titles).containsExactly("Task 0", "Task 1", "Task 2", "Task 3", "Task 4");
+    }
+
+    private List<String> fetchAll(String sort, Sort.Direction direction) {
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageRequest request = new CursorPageRequest();
+            request.setLimit(2);
+            request.setSort(sort);
+            request.setDirection(direction);
+            request.setCursor(cursor);
+            CursorPagination.Scroll scroll = cursorPagination.resolve(request);
+            CursorPage<TaskSummary> page = cursorPagination.toPage(taskRepository.findSummariesByUserId(
+                USER_ID, scroll.getPosition(), scroll.getLimit(), scroll.getSort()), scroll);
+            page.getItems().forEach(summary -> titles.add(summary.getTitle()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+        assertThat(pages).isEqualTo(3);
+        return titles;
+    }
+}
@@ -0,0 +1,154 @@
+package com.jediorganizer.service;
+
+import com.jediorganizer.dto.CursorPage;
+import com.jediorganizer.dto.CursorPageRequest;
+import com.jediorganizer.exception.BusinessValidationException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Cursor encoding, decoding and validation of pagination requests.
+ */
+class CursorPaginationTest {
+
+    private static final String LAST_ID = "65a1b2c3d4e5f60718293a4b";
+    private static final LocalDateTime LAST_CREATED_AT = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+    private CursorPagination cursorPagination;
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        cursorPagination = new CursorPagination(converter, 50, 200);
+    }
+
+    @Test
+    void firstPageStartsAtTheBeginningWithDefaults() {
+        CursorPagination.Scroll scroll = cursorPagination.resolve(new CursorPageRequest());
+
+        assertThat(scroll.getPosition()).isEqualTo(ScrollPosition.keyset());
+        assertThat(scroll.getLimit().max()).isEqualTo(50);
+        assertThat(scroll.getSort()).isEqualTo(Sort.by(Sort.Direction.ASC, "createdAt"));
+    }
+
+    @Test
+    void capsPageSizeAndRejectsNonPositiveOnes() {
+        assertThat(cursorPagination.resolve(request(null, "createdAt", Sort.Direction.ASC, 1000)).getLimit().max())
+            .isEqualTo(200);
+        assertThatThrownBy(() -> cursorPagination.resolve(request(null, "createdAt", Sort.Direction.ASC, 0)))
+            .isInstanceOf(BusinessValidationException.class)
+            .extracting("errorCode").isEqualTo("INVALID_LIMIT");
+    }
+
+    @Test
+    void rejectsUnsupportedSortField() {
+        assertThatThrownBy(() -> cursorPagination.resolve(request(null, "title", Sort.Direction.ASC, null)))
+            .isInstanceOf(BusinessValidationException.class)
+            .extracting("errorCode").isEqualTo("INVALID_SORT");
+    }
+
+    @Test
+    void nextCursorResumesAfterTheLastDocument() {
+        String cursor = nextCursor("createdAt", Sort.Direction.DESC);
+
+        ScrollPosition position = cursorPagination.resolve(request(cursor, "createdAt", Sort.Direction.DESC, null))
+            .getPosition();
+
+        assertThat(position).isInstanceOf(KeysetScrollPosition.class);
+        KeysetScrollPosition keyset = (KeysetScrollPosition) position;
+        assertThat(keyset.scrollsForward()).isTrue();
+        assertThat(keyset.getKeys()).containsEntry("id", new ObjectId(LAST_ID))
+            .containsEntry("createdAt", Date.from(LAST_CREATED_AT.atZone(ZoneId.systemDefault()).toInstant()));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        CursorPagination.Scroll scroll = cursorPagination.resolve(new CursorPageRequest());
+        CursorPage<String> page = cursorPagination.toPage(
+            Window.from(List.of("last"), index -> lastPosition(), false), scroll);
+
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    void rejectsCursorIssuedForAnotherSortField() {
+        String cursor = nextCursor("createdAt", Sort.Direction.ASC);
+
+        assertThatThrownBy(() -> cursorPagination.resolve(request(cursor, "updatedAt", Sort.Direction.ASC, null)))
+            .isInstanceOf(BusinessValidationException.class)
+            .hasMessageContaining("different sort order");
+    }
+
+    @Test
+    void rejectsCursorIssuedForAnotherDirection() {
+        String cursor = nextCursor("createdAt", Sort.Direction.ASC);
+
+        assertThatThrownBy(() -> cursorPagination.resolve(request(cursor, "createdAt", Sort.Direction.DESC, null)))
+            .isInstanceOf(BusinessValidationException.class)
+            .hasMessageContaining("different sort order");
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        String notJson = Base64.getUrlEncoder().encodeToString("not json".getBytes(StandardCharsets.UTF_8));
+        String noKeys = Base64.getUrlEncoder().encodeToString(
+            "{\"s\": \"createdAt\", \"d\": \"ASC\"}".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of("%%%", notJson, noKeys)) {
+            assertThatThrownBy(() -> cursorPagination.resolve(request(cursor, "createdAt", Sort.Direction.ASC, null)))
+                .isInstanceOf(BusinessValidationException.class)
+                .extracting("errorCode").isEqualTo("INVALID_CURSOR");
+        }
+    }
+
+    private String nextCursor(String sortField, Sort.Direction direction) {
+        CursorPagination.Scroll scroll = cursorPagination.resolve(request(null, sortField, direction, 1));
+        CursorPage<String> page = cursorPagination.toPage(
+            Window.from(List.of("last"), index -> lastPosition(), true), scroll);
+        assertThat(page.getNextCursor()).isNotNull();
+        return page.getNextCursor();
+    }
+
+    private static ScrollPosition lastPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdAt", LAST_CREATED_AT);
+        keys.put("id", LAST_ID);
+        return ScrollPosition.forward(keys);
+    }
+
+    private static CursorPageRequest request(String cursor, String sort, Sort.Direction direction, Integer limit) {
+        CursorPageRequest request = new CursorPageRequest();
+        request.setCursor(cursor);
+        request.setSort(sort);
+        request.setDirection(direction);
+        request.setLimit(limit);
+        return request;
+    }
+}
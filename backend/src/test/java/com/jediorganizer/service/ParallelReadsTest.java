@@ -0,0 +1,147 @@
+package com.jediorganizer.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Fail-fast, deadline and cancellation behaviour of parallel reads.
+ */
+class ParallelReadsTest {
+
+    private ParallelReads parallelReads;
+
+    @AfterEach
+    void tearDown() {
+        parallelReads.shutdown();
+    }
+
+    @Test
+    void joinReturnsTheResultOfEveryRead() {
+        parallelReads = new ParallelReads(4, Duration.ofSeconds(5));
+
+        try (ParallelReads.Scope scope = parallelReads.open()) {
+            Supplier<String> first = scope.fork(() -> "first");
+            Supplier<Integer> second = scope.fork(() -> 2);
+            scope.join();
+
+            assertThat(first.get()).isEqualTo("first");
+            assertThat(second.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void firstFailureIsRethrownWithoutWaitingForSlowerReads() {
+        parallelReads = new ParallelReads(4, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ParallelReads.Scope scope = parallelReads.open()) {
+            scope.fork(() -> release.await(5, TimeUnit.SECONDS));
+            scope.fork(() -> {
+                throw new IllegalStateException("read failed");
+            });
+
+            long start = System.nanoTime();
+            assertThatThrownBy(scope::join).isInstanceOf(IllegalStateException.class).hasMessage("read failed");
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void joinFailsWhenTheDeadlinePasses() {
+        parallelReads = new ParallelReads(4, Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ParallelReads.Scope scope = parallelReads.open()) {
+            scope.fork(() -> release.await(5, TimeUnit.SECONDS));
+
+            long start = System.nanoTime();
+            assertThatThrownBy(scope::join).isInstanceOf(QueryTimeoutException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void runningReadsAreNotInterruptedAndWaitingReadsAreSkipped() throws InterruptedException {
+        parallelReads = new ParallelReads(2, Duration.ofSeconds(5));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicBoolean skippedReadRan = new AtomicBoolean();
+
+        try (ParallelReads.Scope scope = parallelReads.open()) {
+            scope.fork(() -> {
+                running.countDown();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                finished.countDown();
+                return null;
+            });
+            scope.fork(() -> {
+                running.await();
+                throw new IllegalStateException("read failed");
+            });
+            // Waits for a permit until one of the two reads above is done
+            scope.fork(() -> skippedReadRan.getAndSet(true));
+
+            assertThatThrownBy(scope::join).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(finished.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isFalse();
+        assertThat(skippedReadRan).isFalse();
+    }
+
+    @Test
+    void remainingTimeIsOnlyKnownInsideForkedReads() {
+        parallelReads = new ParallelReads(4, Duration.ofSeconds(5));
+
+        assertThat(ParallelReads.remainingTime()).isEmpty();
+        try (ParallelReads.Scope scope = parallelReads.open()) {
+            Supplier<Optional<Duration>> remaining = scope.fork(ParallelReads::remainingTime);
+            scope.join();
+
+            assertThat(remaining.get()).hasValueSatisfying(time ->
+                assertThat(time).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(5)));
+        }
+    }
+
+    @Test
+    void nestedScopesKeepTheEnclosingDeadline() {
+        parallelReads = new ParallelReads(4, Duration.ofMillis(500));
+        ParallelReads longer = new ParallelReads(4, Duration.ofSeconds(30));
+
+        try (ParallelReads.Scope scope = parallelReads.open()) {
+            Supplier<Optional<Duration>> nested = scope.fork(() -> {
+                try (ParallelReads.Scope inner = longer.open()) {
+                    Supplier<Optional<Duration>> remaining = inner.fork(ParallelReads::remainingTime);
+                    inner.join();
+                    return remaining.get();
+                }
+            });
+            scope.join();
+
+            assertThat(nested.get()).hasValueSatisfying(time ->
+                assertThat(time).isLessThanOrEqualTo(Duration.ofMillis(500)));
+        } finally {
+            longer.shutdown();
+        }
+    }
+}
@@ -1,34 +1,59 @@
 import { useState, useEffect } from 'react';
-import { Task, CreateTaskRequest, UpdateTaskRequest } from '../types';
-import { taskService, TaskFilters } from '../services/task-service';
+import { Task, TaskSummary, CreateTaskRequest, UpdateTaskRequest } from '../types';
+import { taskService, TaskService, TaskFilters } from '../services/task-service';
 import { useNotification } from '../contexts/NotificationContext';
 import { useLoading } from '../contexts/LoadingContext';
 import { parseError, getUserFriendlyMessage } from '../utils/error-handling';
 
-// Hook for getting all tasks with filters
+// Hook for getting tasks with filters, one page at a time
 export function useTasks(filters?: TaskFilters) {
-  const [tasks, setTasks] = useState<Task[]>([]);
+  const [tasks, setTasks] = useState<TaskSummary[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [loading, setLoading] = useState(false);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState<string | null>(null);
   const { showError } = useNotification();
 
+  const handleFetchError = (err: unknown) => {
+    const errorInfo = parseError(err);
+    const message = getUserFriendlyMessage(errorInfo.code);
+    setError(message);
+    showError(message);
+    console.error('Failed to fetch tasks:', errorInfo);
+  };
+
+  // Loads the first page only; further pages are fetched by loadMore
   const fetchTasks = async () => {
     try {
       setLoading(true);
       setError(null);
-      const data = await taskService.getTasks(filters);
-      setTasks(data);
+      const page = await taskService.getTasksPage(filters, undefined, TaskService.LIST_PAGE_SIZE);
+      setTasks(page.items);
+      setNextCursor(page.hasNext ? page.nextCursor : null);
     } catch (err) {
-      const errorInfo = parseError(err);
-      const message = getUserFriendlyMessage(errorInfo.code);
-      setError(message);
-      showError(message);
-      console.error('Failed to fetch tasks:', errorInfo);
+      handleFetchError(err);
     } finally {
       setLoading(false);
     }
   };
 
+  const loadMore = async () => {
+    if (!nextCursor || loadingMore) {
+      return;
+    }
+    try {
+      setLoadingMore(true);
+      setError(null);
+      const page = await taskService.getTasksPage(filters, nextCursor, TaskService.LIST_PAGE_SIZE);
+      setTasks(prev => [...prev, ...page.items]);
+      setNextCursor(page.hasNext ? page.nextCursor : null);
+    } catch (err) {
+      handleFetchError(err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   useEffect(() => {
     fetchTasks();
   }, [JSON.stringify(filters)]);
@@ -37,6 +62,9 @@ export function useTasks(filters?: TaskFilters) {
     tasks,
     loading,
     error,
+    hasMore: nextCursor !== null,
+    loadingMore,
+    loadMore,
     refetch: fetchTasks,
   };
 }
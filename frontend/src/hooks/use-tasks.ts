@@ -1,18 +1,22 @@
 import {useEffect, useState} from 'react';
-import {CreateTaskRequest, Task, UpdateTaskRequest} from '../types';
-import {TaskFilters, taskService} from '../services';
+import {CreateTaskRequest, Task, TaskSummary, UpdateTaskRequest} from '../types';
+import {TaskFilters, TaskService, taskService} from '../services';
 
 export function useTasks(filters?: TaskFilters) {
-  const [tasks, setTasks] = useState<Task[]>([]);
+  const [tasks, setTasks] = useState<TaskSummary[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState<string | null>(null);
 
+  // Loads the first page only; further pages are fetched by loadMore
   const fetchTasks = async () => {
     try {
       setLoading(true);
       setError(null);
-      const tasksData = await taskService.getTasks(filters);
-      setTasks(tasksData);
+      const page = await taskService.getTasksPage(filters, undefined, TaskService.LIST_PAGE_SIZE);
+      setTasks(page.items);
+      setNextCursor(page.hasNext ? page.nextCursor : null);
     } catch (err) {
       setError(err instanceof Error ? err.message : 'Failed to fetch tasks');
     } finally {
@@ -20,11 +24,29 @@ export function useTasks(filters?: TaskFilters) {
     }
   };
 
+  const loadMore = async () => {
+    if (!nextCursor || loadingMore) {
+      return;
+    }
+    try {
+      setLoadingMore(true);
+      setError(null);
+      const page = await taskService.getTasksPage(filters, nextCursor, TaskService.LIST_PAGE_SIZE);
+      setTasks(prev => [...prev, ...page.items]);
+      setNextCursor(page.hasNext ? page.nextCursor : null);
+    } catch (err) {
+      setError(err instanceof Error ? err.message : 'Failed to fetch tasks');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const createTask = async (taskData: CreateTaskRequest) => {
     try {
       setError(null);
       const newTask = await taskService.createTask(taskData);
-      setTasks(prev => [...prev, newTask]);
+      // The list holds summaries; reload it rather than mixing in the full task
+      await fetchTasks();
       return newTask;
     } catch (err) {
       setError(err instanceof Error ? err.message : 'Failed to create task');
@@ -36,7 +58,7 @@ export function useTasks(filters?: TaskFilters) {
     try {
       setError(null);
       const updatedTask = await taskService.updateTask(id, taskData);
-      setTasks(prev => prev.map(t => t.id === id ? updatedTask : t));
+      await fetchTasks();
       return updatedTask;
     } catch (err) {
       setError(err instanceof Error ? err.message : 'Failed to update task');
@@ -59,7 +81,7 @@ export function useTasks(filters?: TaskFilters) {
     try {
       setError(null);
       const updatedTask = await taskService.completeTask(id);
-      setTasks(prev => prev.map(t => t.id === id ? updatedTask : t));
+      await fetchTasks();
       return updatedTask;
     } catch (err) {
       setError(err instanceof Error ? err.message : 'Failed to complete task');
@@ -75,6 +97,9 @@ export function useTasks(filters?: TaskFilters) {
     tasks,
     loading,
     error,
+    hasMore: nextCursor !== null,
+    loadingMore,
+    loadMore,
     refetch: fetchTasks,
     createTask,
     updateTask,
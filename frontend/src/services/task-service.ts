@@ -1,5 +1,5 @@
 import {apiClient} from './api-client';
-import {CreateTaskRequest, Task, TaskStatus, UpdateTaskRequest} from '../types';
+import {CreateTaskRequest, CursorPage, Task, TaskNote, TaskStatus, TaskSummary, UpdateTaskRequest} from '../types';
 
 export interface TaskFilters {
   status?: TaskStatus;
@@ -9,7 +9,11 @@ export interface TaskFilters {
 }
 
 export class TaskService {
-  async getTasks(filters?: TaskFilters): Promise<Task[]> {
+  // Server maximum page size; fewer round trips while a list is scrolled through
+  static readonly LIST_PAGE_SIZE = 200;
+
+  // One page of matching tasks; pass the previous page's nextCursor to get the following one
+  async getTasksPage(filters?: TaskFilters, cursor?: string, limit?: number): Promise<CursorPage<TaskSummary>> {
     const queryParams = new URLSearchParams();
     if (filters) {
       Object.entries(filters).forEach(([key, value]) => {
@@ -22,9 +26,14 @@ export class TaskService {
         }
       });
     }
+    if (cursor) {
+      queryParams.append('cursor', cursor);
+    }
+    if (limit !== undefined) {
+      queryParams.append('limit', limit.toString());
+    }
     const queryString = queryParams.toString();
-    const endpoint = queryString ? `/tasks?${queryString}` : '/tasks';
-    return apiClient.get<Task[]>(endpoint);
+    return apiClient.get<CursorPage<TaskSummary>>(queryString ? `/tasks?${queryString}` : '/tasks');
   }
 
   async getTodayTasks(): Promise<Task[]> {
@@ -63,6 +72,11 @@ export class TaskService {
     return apiClient.post<Task>(`/tasks/${id}/notes`, { content });
   }
 
+  async getTaskNotes(id: string, cursor?: string): Promise<CursorPage<TaskNote>> {
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+    return apiClient.get<CursorPage<TaskNote>>(`/tasks/${id}/notes${query}`);
+  }
+
   async updateTaskReflection(id: string, reflection: any): Promise<Task> {
     return apiClient.put<Task>(`/tasks/${id}/reflection`, reflection);
   }
@@ -22,3 +22,9 @@ export interface PaginatedResponse<T> {
   first: boolean;
   last: boolean;
 }
+
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
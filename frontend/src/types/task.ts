@@ -13,6 +13,8 @@ export enum TaskType {
 }
 
 export interface TaskNote {
+  id: string;
+  taskId: string;
   content: string;
   createdAt: string;
 }
@@ -41,11 +43,28 @@ export interface Task {
   userDefinedOrder: number;
   context?: string;
   energyLevel?: number;
-  notes: TaskNote[];
+  noteCount: number;
   reflection?: TaskReflection;
   tags: string[];
 }
 
+// List item returned by the paginated task endpoints; fetch the task by id for its full content
+export interface TaskSummary {
+  id: string;
+  title: string;
+  status: TaskStatus;
+  type: TaskType;
+  scheduledDate?: string;
+  dueDate?: string;
+  energy: number;
+  context?: string;
+  projectId?: string;
+  noteCount: number;
+  subtaskCount: number;
+  createdAt: string;
+  updatedAt: string;
+}
+
 export interface CreateTaskRequest {
   title: string;
   description?: string;
@@ -7,24 +7,50 @@ db = db.getSiblingDB('jedi_organizer');
 // Create collections
 db.createCollection('users');
 db.createCollection('tasks');
+db.createCollection('task_notes');
 db.createCollection('projects');
 db.createCollection('reflection_sessions');
+db.createCollection('tombstones');
 
 // Create indexes for optimal performance
+// Task and project indexes mirror the @CompoundIndex declarations on the models,
+// which the backend also creates on startup; keep both in sync.
 
 // Users collection indexes
-db.users.createIndex({ "googleId": 1 }, { unique: true });
+// Sparse: users registered with email only have no googleId
+db.users.createIndex({ "googleId": 1 }, { unique: true, sparse: true });
 db.users.createIndex({ "email": 1 }, { unique: true });
+// Sparse: only users whose tokens were revoked, loaded into the revocation set on startup
+db.users.createIndex({ "tokensRevokedAt": 1 }, { sparse: true });
 
 // Tasks collection indexes
-db.tasks.createIndex({ "userId": 1, "state": 1 });
-db.tasks.createIndex({ "userId": 1, "userDefinedOrder": 1 });
+db.tasks.createIndex({ "userId": 1, "status": 1, "createdAt": -1 });
+db.tasks.createIndex({ "userId": 1, "scheduledDate": 1, "status": 1 });
+db.tasks.createIndex({ "userId": 1, "dueDate": 1 });
+db.tasks.createIndex({ "userId": 1, "projectId": 1 });
+db.tasks.createIndex({ "projectId": 1, "status": 1 });
+db.tasks.createIndex({ "userId": 1, "context": 1 });
+db.tasks.createIndex({ "userId": 1, "energy": 1 });
 db.tasks.createIndex({ "userId": 1, "completedAt": -1 });
 db.tasks.createIndex({ "userId": 1, "createdAt": -1 });
+db.tasks.createIndex({ "userId": 1, "updatedAt": -1 });
+db.tasks.createIndex({ "userId": 1, "searchKeywords": 1 });
+
+// Task notes collection indexes
+db.task_notes.createIndex({ "taskId": 1, "createdAt": 1, "content": 1 }, { unique: true });
+db.task_notes.createIndex({ "userId": 1, "searchKeywords": 1 });
 
 // Projects collection indexes
+db.projects.createIndex({ "userId": 1, "status": 1 });
+db.projects.createIndex({ "userId": 1, "priority": 1 });
+db.projects.createIndex({ "userId": 1, "dueDate": 1 });
 db.projects.createIndex({ "userId": 1, "createdAt": -1 });
-db.projects.createIndex({ "userId": 1, "completedAt": -1 });
+db.projects.createIndex({ "userId": 1, "updatedAt": -1 });
+db.projects.createIndex({ "userId": 1, "searchKeywords": 1 });
+
+// Tombstones collection indexes (delta sync); expire after the retention of Tombstone.RETENTION
+db.tombstones.createIndex({ "userId": 1, "deletedAt": 1 });
+db.tombstones.createIndex({ "deletedAt": 1 }, { expireAfterSeconds: 2592000 });
 
 // Reflection sessions collection indexes
 db.reflection_sessions.createIndex({ "userId": 1, "sessionDate": -1 });